@@ -0,0 +1,94 @@
+package com.collectionFramework.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/*
+ * Small micro-benchmark harness (the same ideas JMH uses, without the dependency):
+ *
+ *   - Warm-up iterations first, so the JIT has compiled the code before we measure.
+ *   - Every iteration repeats invocations for at least ITERATION_TIME, so short operations are measured often enough
+ *     (capped at MAX_ITERATION_WALL_TIME including the untimed setup).
+ *   - Setup (building the list etc.) is done outside of the timed part.
+ *   - Every result is consumed (sink), so the JIT can not remove the measured work as "dead code".
+ *   - Allocation is read from the per-thread allocation counter of the JVM
+ *     (com.sun.management.ThreadMXBean - the same counter JMH's "-prof gc" uses).
+ *
+ * One invocation performs 'operations' operations, results are reported per operation.
+ * */
+
+public final class BenchmarkRunner {
+
+    // one timed invocation - returns something derived from the work, so it can not be optimized away
+    @FunctionalInterface
+    public interface Invocation {
+        long run();
+    }
+
+    public record Result(String name, double nsPerOp, double bytesPerOp, double allocationMbPerSecond) {
+        @Override
+        public String toString() {
+            return String.format("%-55s %12.1f ns/op %10.1f B/op %10.1f MB/s alloc",
+                    name, nsPerOp, bytesPerOp, allocationMbPerSecond);
+        }
+    }
+
+    private static volatile long sink; // blackhole
+    private static final long ITERATION_TIME = 100_000_000L; // 100 ms of measured time per iteration
+    // ... but at most 1 s including setup - when the setup costs much more than the timed part (rebuilding a list of
+    // 1M elements for 1000 appends), collecting 100 ms of timed work would take thousands of setups
+    private static final long MAX_ITERATION_WALL_TIME = 1_000_000_000L;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private BenchmarkRunner() {
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    /*
+     * setup        → creates the state for one invocation and returns the timed part
+     * operations   → how many operations one invocation performs
+     * Reports the average over all measured invocations.
+     * */
+    public static Result run(String name, int warmUpIterations, int measuredIterations,
+                             long operations, Supplier<Invocation> setup) {
+        for (int i = 0; i < warmUpIterations; i++) {
+            long time = 0;
+            long iterationStart = System.nanoTime();
+            while (time < ITERATION_TIME && System.nanoTime() - iterationStart < MAX_ITERATION_WALL_TIME) {
+                Invocation invocation = setup.get();
+                long start = System.nanoTime();
+                sink += invocation.run();
+                time += System.nanoTime() - start;
+            }
+        }
+
+        long totalTime = 0;
+        long totalBytes = 0;
+        long invocations = 0;
+        for (int i = 0; i < measuredIterations; i++) {
+            long time = 0;
+            long iterationStart = System.nanoTime();
+            while (time < ITERATION_TIME && System.nanoTime() - iterationStart < MAX_ITERATION_WALL_TIME) {
+                Invocation invocation = setup.get(); // not measured
+                long bytesBefore = allocatedBytes();
+                long start = System.nanoTime();
+                sink += invocation.run();
+                time += System.nanoTime() - start;
+                totalBytes += allocatedBytes() - bytesBefore;
+                invocations++;
+            }
+            totalTime += time;
+        }
+
+        double totalOperations = (double) operations * invocations;
+        double nsPerOp = totalTime / totalOperations;
+        double bytesPerOp = totalBytes / totalOperations;
+        double mbPerSecond = totalTime == 0 ? 0 : (totalBytes / (1024.0 * 1024.0)) / (totalTime / 1e9);
+        return new Result(name, nsPerOp, bytesPerOp, mbPerSecond);
+    }
+}
@@ -0,0 +1,178 @@
+package com.collectionFramework.benchmark;
+
+import com.collectionFramework.list.arrayList.CombiningCopyOnWriteList;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/*
+ * The reader/writer scenario of CopyOnWriteArrayListClass, measured:
+ * reader threads iterate over the whole list again and again, writer threads add an element and remove the
+ * first one (so the list keeps its size), pausing between writes. The pause sets the write rate.
+ *
+ *   CopyOnWriteArrayList       one array copy per write
+ *   CombiningCopyOnWriteList   one array copy per batch of concurrent writes
+ *
+ * Reported: writes and full reader passes per second, and for CombiningCopyOnWriteList the writes per copy.
+ *
+ * Run: java -cp out com.collectionFramework.benchmark.CopyOnWriteBenchmark [size, default 10000] [readers, default 2] [writers, default 4]
+ * */
+
+public class CopyOnWriteBenchmark {
+
+    private interface SharedList extends Iterable<Integer> {
+        void add(Integer value);
+
+        void removeFirst();
+
+        double writesPerCopy();
+
+        void resetStats();
+    }
+
+    private static final long[] PAUSES_NANOS = {0, 1_000, 10_000, 100_000}; // between two writes of one writer, 0 = burst
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+
+    private static final Map<String, Supplier<SharedList>> LISTS = new LinkedHashMap<>();
+
+    static {
+        LISTS.put("CopyOnWriteArrayList", () -> {
+            CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+            return new SharedList() {
+                public void add(Integer value) {
+                    list.add(value);
+                }
+
+                public void removeFirst() {
+                    list.remove(0);
+                }
+
+                public double writesPerCopy() {
+                    return 1;
+                }
+
+                public void resetStats() {
+                }
+
+                public Iterator<Integer> iterator() {
+                    return list.iterator();
+                }
+            };
+        });
+        LISTS.put("CombiningCopyOnWriteList", () -> {
+            CombiningCopyOnWriteList<Integer> list = new CombiningCopyOnWriteList<>();
+            return new SharedList() {
+                public void add(Integer value) {
+                    list.add(value);
+                }
+
+                public void removeFirst() {
+                    list.remove(0);
+                }
+
+                public double writesPerCopy() {
+                    return list.averageBatchSize();
+                }
+
+                public void resetStats() {
+                    list.resetStats();
+                }
+
+                public Iterator<Integer> iterator() {
+                    return list.iterator();
+                }
+            };
+        });
+    }
+
+    private static volatile long sink; // blackhole
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int writers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        for (long pause : PAUSES_NANOS) {
+            System.out.println("=== n=" + size + ", readers=" + readers + ", writers=" + writers
+                    + ", pause between writes=" + (pause / 1_000) + " us ===");
+            for (Map.Entry<String, Supplier<SharedList>> entry : LISTS.entrySet()) {
+                measure(entry.getValue().get(), size, readers, writers, pause, MEASURE_NANOS / 2); // warm-up
+                SharedList list = entry.getValue().get();
+                double[] result = measure(list, size, readers, writers, pause, MEASURE_NANOS);
+                System.out.printf("%-26s %12.0f writes/s %10.0f reader passes/s %8.1f writes/copy%n",
+                        entry.getKey(), result[0], result[1], list.writesPerCopy());
+            }
+            System.out.println();
+        }
+    }
+
+    // returns {writes per second, reader passes per second}
+    private static double[] measure(SharedList list, int size, int readers, int writers,
+                                    long pauseNanos, long durationNanos) throws InterruptedException {
+        Integer value = 1; // same object every time - we measure the list, not the elements
+        for (int i = 0; i < size; i++) {
+            list.add(value);
+        }
+        list.resetStats(); // writes/copy is about the measured writes, not the single-element fill above
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] counts = new long[(readers + writers) * 16]; // own slot per thread, 16 longs apart (no false sharing)
+        Thread[] threads = new Thread[readers + writers];
+        for (int t = 0; t < threads.length; t++) {
+            int slot = t * 16;
+            boolean reader = t < readers;
+            threads[t] = new Thread(() -> {
+                long count = 0;
+                long sum = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (running.get()) {
+                    if (reader) {
+                        for (Integer item : list) { // snapshot iteration, no ConcurrentModificationException
+                            sum += item;
+                        }
+                        count++;
+                    } else {
+                        list.add(value);
+                        list.removeFirst();
+                        count += 2;
+                        if (pauseNanos > 0) {
+                            LockSupport.parkNanos(pauseNanos);
+                        }
+                    }
+                }
+                counts[slot] = count;
+                sink += sum;
+            });
+            threads[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(durationNanos / 1_000_000);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        long writes = 0;
+        long passes = 0;
+        for (int t = 0; t < threads.length; t++) {
+            if (t < readers) {
+                passes += counts[t * 16];
+            } else {
+                writes += counts[t * 16];
+            }
+        }
+        return new double[]{writes / seconds, passes / seconds};
+    }
+}
@@ -0,0 +1,104 @@
+package com.collectionFramework.benchmark;
+
+import com.collectionFramework.list.arrayList.CustomArrayDeque;
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.linkedList.CustomLinkedList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/*
+ * FIFO queue benchmark: a queue holding n elements, every operation offers one element at the tail
+ * and polls one from the head (the "consumer shifts the list" pattern).
+ *
+ *   CustomArrayList   add(e) + remove(0)       remove(0) shifts all n elements  → O(n)
+ *   CustomLinkedList  add(e) + remove(0)       O(1), but one new Node per offer
+ *   CustomArrayDeque  offerLast + pollFirst    O(1), no allocation
+ *   ArrayDeque        offerLast + pollFirst    the JDK reference
+ *
+ * Run: java -cp out com.collectionFramework.benchmark.DequeBenchmark [sizes, default 1000,100000,1000000]
+ * */
+
+public class DequeBenchmark {
+
+    @FunctionalInterface
+    private interface Queue {
+        int offerAndPoll(Integer element);
+    }
+
+    private static final int OPERATIONS = 10_000; // per invocation
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 5;
+
+    private static final Map<String, IntFunction<Queue>> QUEUES = new LinkedHashMap<>();
+
+    static {
+        QUEUES.put("CustomArrayList", size -> {
+            CustomArrayList<Integer> list = fill(new CustomArrayList<>(), size);
+            return element -> {
+                list.add(element);
+                return list.remove(0);
+            };
+        });
+        QUEUES.put("CustomLinkedList", size -> {
+            CustomLinkedList<Integer> list = fill(new CustomLinkedList<>(), size);
+            return element -> {
+                list.add(element);
+                return list.remove(0);
+            };
+        });
+        QUEUES.put("CustomArrayDeque", size -> {
+            CustomArrayDeque<Integer> deque = fill(new CustomArrayDeque<>(), size);
+            return element -> {
+                deque.offerLast(element);
+                return deque.pollFirst();
+            };
+        });
+        QUEUES.put("ArrayDeque", size -> {
+            ArrayDeque<Integer> deque = new ArrayDeque<>();
+            for (int i = 0; i < size; i++) {
+                deque.offerLast(i);
+            }
+            return element -> {
+                deque.offerLast(element);
+                return deque.pollFirst();
+            };
+        });
+    }
+
+    private static <L extends CustomList<Integer>> L fill(L list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    public static void main(String[] args) {
+        String[] sizes = (args.length > 0 ? args[0] : "1000,100000,1000000").split(",");
+        Integer[] values = new Integer[OPERATIONS]; // boxed once, so boxing is not measured
+        for (int i = 0; i < OPERATIONS; i++) {
+            values[i] = i;
+        }
+
+        for (String sizeText : sizes) {
+            int size = Integer.parseInt(sizeText);
+            System.out.println("=== FIFO offer + poll, n=" + size + " ===");
+            for (Map.Entry<String, IntFunction<Queue>> entry : QUEUES.entrySet()) {
+                Queue queue = entry.getValue().apply(size); // steady state: the queue keeps n elements
+                BenchmarkRunner.Result result = BenchmarkRunner.run(String.format("%-9s n=%-8d %s", "fifo", size, entry.getKey()),
+                        WARM_UP, ITERATIONS, OPERATIONS, () -> () -> {
+                            long sum = 0;
+                            for (Integer value : values) {
+                                sum += queue.offerAndPoll(value);
+                            }
+                            return sum;
+                        });
+                System.out.println(result);
+            }
+            System.out.println();
+        }
+    }
+}
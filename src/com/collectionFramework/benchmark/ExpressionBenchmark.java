@@ -0,0 +1,75 @@
+package com.collectionFramework.benchmark;
+
+import com.collectionFramework.list.stack.expression.Evaluator;
+import com.collectionFramework.list.stack.expression.ExpressionEngine;
+import com.collectionFramework.list.stack.expression.Program;
+
+import java.util.Random;
+
+/*
+ * Expression evaluation throughput: one rule checked against a batch of records.
+ *
+ *   compile every time     ExpressionEngine with cache size 0 - tokenize + shunting-yard for every record
+ *   engine (cached)        ExpressionEngine.evaluate(text, values) - cache lookup + evaluation
+ *   compiled program       Evaluator.evaluate(program, values) - evaluation only
+ *
+ * The last two should report 0 B/op: no allocation per evaluation.
+ *
+ * Run: java -cp out com.collectionFramework.benchmark.ExpressionBenchmark ["expression"]
+ * */
+
+public class ExpressionBenchmark {
+
+    private static final String DEFAULT_RULE = "age >= 18 && (income - debt) * 100 / income > 30 || vip";
+    private static final int RECORDS = 1_000; // evaluations per invocation
+    private static final int WARM_UP = 3;
+    private static final int ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        String rule = args.length > 0 ? args[0] : DEFAULT_RULE;
+
+        ExpressionEngine engine = new ExpressionEngine();
+        Program program = engine.compile(rule);
+        int[][] records = new int[RECORDS][program.variableCount()];
+        Random random = new Random(42);
+        for (int[] record : records) {
+            for (int i = 0; i < record.length; i++) {
+                record[i] = random.nextInt(100) + 1; // > 0, so "/ income" can not divide by zero
+            }
+        }
+
+        System.out.println("=== " + rule + " ===");
+        System.out.println(program.disassemble());
+        System.out.println();
+
+        ExpressionEngine uncached = new ExpressionEngine(0);
+        report(BenchmarkRunner.run("compile every time", WARM_UP, ITERATIONS, RECORDS, () -> () -> {
+            long sum = 0;
+            for (int[] record : records) {
+                sum += uncached.evaluate(rule, record);
+            }
+            return sum;
+        }));
+
+        report(BenchmarkRunner.run("engine (cached)", WARM_UP, ITERATIONS, RECORDS, () -> () -> {
+            long sum = 0;
+            for (int[] record : records) {
+                sum += engine.evaluate(rule, record);
+            }
+            return sum;
+        }));
+
+        Evaluator evaluator = engine.evaluator();
+        report(BenchmarkRunner.run("compiled program", WARM_UP, ITERATIONS, RECORDS, () -> () -> {
+            long sum = 0;
+            for (int[] record : records) {
+                sum += evaluator.evaluate(program, record);
+            }
+            return sum;
+        }));
+    }
+
+    private static void report(BenchmarkRunner.Result result) {
+        System.out.printf("%s %12.0f evaluations/s%n", result, 1e9 / result.nsPerOp());
+    }
+}
@@ -0,0 +1,87 @@
+package com.collectionFramework.benchmark;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Iterator;
+import java.util.List;
+
+// Lets a java.util.List run through the same benchmark code as our CustomList implementations.
+class JdkListAdapter<E> implements CustomList<E> {
+
+    private final List<E> list;
+
+    JdkListAdapter(List<E> list) {
+        this.list = list;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean add(E element) {
+        return list.add(element);
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        list.add(index, element);
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        return list.remove(element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int indexOf(E element) {
+        return list.indexOf(element);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return list.set(index, element);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return list.contains(element);
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+}
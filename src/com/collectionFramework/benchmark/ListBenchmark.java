@@ -0,0 +1,292 @@
+package com.collectionFramework.benchmark;
+
+import com.collectionFramework.list.arrayList.CustomArrayDeque;
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.linkedList.CustomLinkedList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/*
+ * Benchmark suite for all list implementations of collectionFramework.
+ *
+ * Operations (measured at a given list size n, reported per single operation):
+ *   append    add(e) at the end
+ *   insert    add(randomIndex, e)
+ *   get       get(randomIndex)
+ *   iterate   for-each over the whole list
+ *   contains  contains(randomExistingValue)
+ *   remove    remove(randomIndex)
+ *
+ * Run from the command line (after compiling the project into 'out'):
+ *
+ *   java -cp out com.collectionFramework.benchmark.ListBenchmark
+ *   java -cp out com.collectionFramework.benchmark.ListBenchmark -l CustomArrayList,ArrayList -o get,insert -s 1000,1000000
+ *
+ * Options:
+ *   -l  list implementations (comma separated, default: all)
+ *   -o  operations           (comma separated, default: all)
+ *   -s  list sizes           (comma separated, default: 1000,100000,1000000)
+ *   -wi warm-up iterations   (default: 3)
+ *   -i  measured iterations  (default: 5)
+ *   -f  forks - 1 runs every case in a fresh JVM (default), 0 runs everything in this JVM
+ *
+ * append, insert and remove reuse one list: the untimed setup of every invocation undoes the previous one, so the
+ * list is not rebuilt with n elements each time. The array-backed lists start with spare capacity for the appended
+ * and inserted elements, so growth is not part of the result.
+ *
+ * Why forks? If all implementations run in one JVM, call sites like list.get() see many classes and the JIT
+ * can not inline them anymore - the implementation measured last looks slower than it is.
+ * */
+
+public class ListBenchmark {
+
+    // Factories - every list is created from a filled java.util.List with the same content
+
+    private static final Map<String, Function<List<Integer>, CustomList<Integer>>> LISTS = new LinkedHashMap<>();
+
+    // Array-backed lists are pre-sized with room for RANDOM_OPERATIONS more elements, so append/insert measure
+    // the operation itself - not one resize of an exactly full array (what new ArrayList<>(source) would give).
+    // CopyOnWriteArrayList copies on every write anyway, so there is nothing to pre-size.
+    static {
+        LISTS.put("CustomArrayList", source -> fill(new CustomArrayList<>(capacity(source)), source));
+        LISTS.put("CustomLinkedList", source -> fill(new CustomLinkedList<>(), source));
+        LISTS.put("CustomArrayDeque", source -> fill(new CustomArrayDeque<>(capacity(source)), source));
+        LISTS.put("ArrayList", source -> new JdkListAdapter<>(fill(new ArrayList<>(capacity(source)), source)));
+        LISTS.put("LinkedList", source -> new JdkListAdapter<>(new LinkedList<>(source)));
+        LISTS.put("Vector", source -> new JdkListAdapter<>(fill(new Vector<>(capacity(source)), source)));
+        LISTS.put("CopyOnWriteArrayList", source -> new JdkListAdapter<>(new CopyOnWriteArrayList<>(source)));
+        LISTS.put("synchronizedList", source -> new JdkListAdapter<>(Collections.synchronizedList(fill(new ArrayList<>(capacity(source)), source))));
+    }
+
+    private static final List<String> OPERATIONS = List.of("append", "insert", "get", "iterate", "contains", "remove");
+
+    private static final int RANDOM_OPERATIONS = 1_000; // per invocation for insert/get/remove/append
+    private static final int CONTAINS_OPERATIONS = 100; // contains() is a full scan, so fewer of them
+
+    private static final Integer[] BOXED = new Integer[RANDOM_OPERATIONS]; // values for append/insert
+
+    static {
+        for (int i = 0; i < BOXED.length; i++) {
+            BOXED[i] = i;
+        }
+    }
+
+    private static CustomList<Integer> fill(CustomList<Integer> list, List<Integer> source) {
+        for (Integer value : source) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static <L extends List<Integer>> L fill(L list, List<Integer> source) {
+        list.addAll(source);
+        return list;
+    }
+
+    private static int capacity(List<Integer> source) {
+        return source.size() + RANDOM_OPERATIONS;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        List<String> lists = split(options.getOrDefault("-l", String.join(",", LISTS.keySet())));
+        List<String> operations = split(options.getOrDefault("-o", String.join(",", OPERATIONS)));
+        List<String> sizes = split(options.getOrDefault("-s", "1000,100000,1000000"));
+        int warmUp = Integer.parseInt(options.getOrDefault("-wi", "3"));
+        int iterations = Integer.parseInt(options.getOrDefault("-i", "5"));
+        int forks = Integer.parseInt(options.getOrDefault("-f", "1"));
+        boolean child = options.containsKey("-child"); // started by fork() - print the result line only
+
+        for (String operation : operations) {
+            if (!OPERATIONS.contains(operation)) {
+                throw new IllegalArgumentException("unknown operation: " + operation + ", expected one of " + OPERATIONS);
+            }
+        }
+        for (String list : lists) {
+            if (!LISTS.containsKey(list)) {
+                throw new IllegalArgumentException("unknown list: " + list + ", expected one of " + LISTS.keySet());
+            }
+        }
+
+        for (String size : sizes) {
+            if (Integer.parseInt(size) < RANDOM_OPERATIONS) {
+                throw new IllegalArgumentException("size must be at least " + RANDOM_OPERATIONS + ": " + size);
+            }
+        }
+
+        for (String operation : operations) {
+            if (!child) {
+                System.out.println("=== " + operation + " ===");
+            }
+            for (String size : sizes) {
+                for (String list : lists) {
+                    if (forks > 0) {
+                        fork(list, operation, size, warmUp, iterations);
+                    } else {
+                        BenchmarkRunner.Result result = measure(list, operation, Integer.parseInt(size), warmUp, iterations);
+                        System.out.println(result);
+                    }
+                }
+            }
+            if (!child) {
+                System.out.println();
+            }
+        }
+    }
+
+    // starts a new JVM with the same class path and JVM options, which runs exactly one case with -f 0
+    private static void fork(String list, String operation, String size, int warmUp, int iterations) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), ListBenchmark.class.getName(),
+                "-f", "0", "-child", "true", "-l", list, "-o", operation, "-s", size, "-wi", String.valueOf(warmUp), "-i", String.valueOf(iterations)));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        process.getInputStream().transferTo(System.out); // the child prints one result line
+        process.waitFor();
+    }
+
+    private static BenchmarkRunner.Result measure(String listName, String operation, int size, int warmUp, int iterations) {
+        Function<List<Integer>, CustomList<Integer>> factory = LISTS.get(listName);
+        List<Integer> source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.add(i);
+        }
+        String name = String.format("%-9s n=%-8d %s", operation, size, listName);
+
+        switch (operation) {
+            // append, insert and remove work on ONE list which the untimed setup puts back into its original state
+            // (no rebuild of n elements per invocation, no garbage of old lists collected during the timed part)
+            case "append": {
+                CustomList<Integer> list = factory.apply(source);
+                return BenchmarkRunner.run(name, warmUp, iterations, RANDOM_OPERATIONS, () -> {
+                    while (list.size() > size) { // drop the elements appended by the previous invocation
+                        list.remove(list.size() - 1);
+                    }
+                    return () -> {
+                        for (Integer value : BOXED) { // boxed once, so boxing is not measured
+                            list.add(value);
+                        }
+                        return list.size();
+                    };
+                });
+            }
+            case "insert": {
+                CustomList<Integer> list = factory.apply(source);
+                int[] indexes = randomIndexes(size, 1);
+                return BenchmarkRunner.run(name, warmUp, iterations, RANDOM_OPERATIONS, () -> {
+                    if (list.size() != size) { // undo the previous invocation - remove in reverse order
+                        for (int i = indexes.length - 1; i >= 0; i--) {
+                            list.remove(indexes[i]);
+                        }
+                    }
+                    return () -> {
+                        for (int i = 0; i < indexes.length; i++) {
+                            list.add(indexes[i], BOXED[i]);
+                        }
+                        return list.size();
+                    };
+                });
+            }
+            case "remove": {
+                CustomList<Integer> list = factory.apply(source);
+                int[] indexes = randomIndexes(size - RANDOM_OPERATIONS, 0); // list shrinks by one per remove
+                Integer[] removed = new Integer[RANDOM_OPERATIONS];
+                return BenchmarkRunner.run(name, warmUp, iterations, RANDOM_OPERATIONS, () -> {
+                    if (list.size() != size) { // undo the previous invocation - put the elements back in reverse order
+                        for (int i = indexes.length - 1; i >= 0; i--) {
+                            list.add(indexes[i], removed[i]);
+                        }
+                    }
+                    return () -> {
+                        long sum = 0;
+                        for (int i = 0; i < indexes.length; i++) {
+                            removed[i] = list.remove(indexes[i]);
+                            sum += removed[i];
+                        }
+                        return sum;
+                    };
+                });
+            }
+            case "get": {
+                CustomList<Integer> list = factory.apply(source); // read only - built once
+                return BenchmarkRunner.run(name, warmUp, iterations, RANDOM_OPERATIONS, () -> {
+                    int[] indexes = randomIndexes(size, 0);
+                    return () -> {
+                        long sum = 0;
+                        for (int index : indexes) {
+                            sum += list.get(index);
+                        }
+                        return sum;
+                    };
+                });
+            }
+            case "iterate": {
+                CustomList<Integer> list = factory.apply(source);
+                return BenchmarkRunner.run(name, warmUp, iterations, size, () -> () -> {
+                    long sum = 0;
+                    for (Integer value : list) {
+                        sum += value;
+                    }
+                    return sum;
+                });
+            }
+            case "contains": {
+                CustomList<Integer> list = factory.apply(source);
+                return BenchmarkRunner.run(name, warmUp, iterations, CONTAINS_OPERATIONS, () -> {
+                    Integer[] values = new Integer[CONTAINS_OPERATIONS]; // boxed in setup, so boxing is not measured
+                    int[] indexes = randomIndexes(size, 0);
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = indexes[i];
+                    }
+                    return () -> {
+                        long found = 0;
+                        for (Integer value : values) {
+                            if (list.contains(value)) {
+                                found++;
+                            }
+                        }
+                        return found;
+                    };
+                });
+            }
+            default:
+                throw new IllegalArgumentException("unknown operation: " + operation);
+        }
+    }
+
+    // RANDOM_OPERATIONS indexes; index i is valid for a list of size (size + i * growth) or more
+    private static int[] randomIndexes(int size, int growth) {
+        Random random = new Random(42); // same indexes for every implementation
+        int[] indexes = new int[RANDOM_OPERATIONS];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = random.nextInt(Math.max(1, size + i * growth));
+        }
+        return indexes;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.asList(value.split(","));
+    }
+}
@@ -0,0 +1,181 @@
+package com.collectionFramework.benchmark;
+
+import com.collectionFramework.list.stack.ConcurrentCustomStack;
+import com.collectionFramework.list.stack.CustomStackUsingArray;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Stack;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/*
+ * Multi-threaded stack throughput: every thread repeats push(x) + pop() for a fixed time,
+ * the result is the total number of operations per microsecond over all threads (higher is better).
+ *
+ *   Stack                     java.util.Stack - every method synchronized
+ *   ConcurrentLinkedDeque     lock-free deque from java.util.concurrent
+ *   CustomStackUsingArray     one ReentrantLock around push/pop
+ *   Treiber                   ConcurrentCustomStack without elimination
+ *   Treiber + elimination     ConcurrentCustomStack
+ *
+ * Values stay in 0..127, so the JDK stacks use the Integer cache and do not allocate for boxing.
+ *
+ * Run: java -cp out com.collectionFramework.benchmark.StackBenchmark [thread counts, default 1,2,4,8,...cores]
+ * */
+
+public class StackBenchmark {
+
+    private interface IntStack {
+        void push(int value);
+
+        int pop();
+    }
+
+    private static final long WARM_UP_NANOS = 500_000_000L;
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+    private static final int ROUNDS = 3;
+
+    private static final Map<String, Supplier<IntStack>> STACKS = new LinkedHashMap<>();
+
+    static {
+        STACKS.put("Stack", () -> {
+            Stack<Integer> stack = new Stack<>();
+            return new IntStack() {
+                public void push(int value) {
+                    stack.push(value);
+                }
+
+                public int pop() {
+                    return stack.pop();
+                }
+            };
+        });
+        STACKS.put("ConcurrentLinkedDeque", () -> {
+            ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+            return new IntStack() {
+                public void push(int value) {
+                    deque.push(value);
+                }
+
+                public int pop() {
+                    return deque.pop();
+                }
+            };
+        });
+        STACKS.put("CustomStackUsingArray + lock", () -> {
+            CustomStackUsingArray stack = new CustomStackUsingArray(1 << 16);
+            ReentrantLock lock = new ReentrantLock();
+            return new IntStack() {
+                public void push(int value) {
+                    lock.lock();
+                    try {
+                        stack.push(value);
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+
+                public int pop() {
+                    lock.lock();
+                    try {
+                        return stack.pop();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            };
+        });
+        STACKS.put("Treiber", () -> {
+            ConcurrentCustomStack stack = new ConcurrentCustomStack(0);
+            return new IntStack() {
+                public void push(int value) {
+                    stack.push(value);
+                }
+
+                public int pop() {
+                    return stack.pop();
+                }
+            };
+        });
+        STACKS.put("Treiber + elimination", () -> {
+            ConcurrentCustomStack stack = new ConcurrentCustomStack();
+            return new IntStack() {
+                public void push(int value) {
+                    stack.push(value);
+                }
+
+                public int pop() {
+                    return stack.pop();
+                }
+            };
+        });
+    }
+
+    private static volatile long sink; // blackhole
+
+    public static void main(String[] args) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        String defaultThreads = "1,2,4,8" + (cores > 8 ? "," + cores : "");
+        for (String threadsText : (args.length > 0 ? args[0] : defaultThreads).split(",")) {
+            int threads = Integer.parseInt(threadsText);
+            System.out.println("=== push + pop, threads=" + threads + " ===");
+            for (Map.Entry<String, Supplier<IntStack>> entry : STACKS.entrySet()) {
+                double best = 0;
+                measure(entry.getValue().get(), threads, WARM_UP_NANOS);
+                for (int round = 0; round < ROUNDS; round++) {
+                    best = Math.max(best, measure(entry.getValue().get(), threads, MEASURE_NANOS));
+                }
+                System.out.printf("%-30s %10.2f ops/us%n", entry.getKey(), best);
+            }
+            System.out.println();
+        }
+    }
+
+    // returns operations per microsecond of all threads together
+    private static double measure(IntStack stack, int threads, long durationNanos) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] operations = new long[threads * 16]; // every thread writes its own slot, 16 longs apart (no false sharing)
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int slot = t * 16;
+            workers[t] = new Thread(() -> {
+                long count = 0;
+                long sum = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (running.get()) {
+                    for (int i = 0; i < 64; i++) { // check the flag only every 64 pairs
+                        stack.push(i);
+                        sum += stack.pop();
+                    }
+                    count += 128;
+                }
+                operations[slot] = count;
+                sink += sum;
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(durationNanos / 1_000_000);
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long total = 0;
+        for (int t = 0; t < threads; t++) {
+            total += operations[t * 16];
+        }
+        return total / (elapsed / 1_000.0);
+    }
+}
@@ -0,0 +1,20 @@
+package com.collectionFramework.list.arrayList;
+
+/*
+ * Decides how the backing array of CustomArrayList changes its capacity.
+ *
+ *   grow()   → called when the array is too small, returns the new capacity (>= needCapacity)
+ *   shrink() → called after elements were removed, returns the new capacity (or the same capacity for "no change")
+ *
+ * The default policy is exactly the old behaviour: grow by 1.5x, never shrink.
+ * GrowthShrinkPolicy is the configurable implementation (growth factor, maximum step, shrink with hysteresis).
+ * */
+
+public interface CapacityPolicy {
+    int grow(int oldCapacity, int needCapacity);
+    int shrink(int capacity, int size);
+
+    static CapacityPolicy defaultPolicy() {
+        return GrowthShrinkPolicy.DEFAULT;
+    }
+}
@@ -0,0 +1,601 @@
+package com.collectionFramework.list.arrayList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/*
+ * Copy-on-write list with write combining.
+ *
+ * CopyOnWriteArrayList copies the whole array for EVERY write - a burst of 100 adds to a list of
+ * 10,000 elements copies 1,000,000 references. Here concurrent writes are combined:
+ *
+ *   writer:    puts its mutation into the 'pending' queue, then takes the write lock
+ *   combiner:  the writer which gets the lock drains ALL pending mutations, copies the array ONCE,
+ *              applies them in queue order and publishes the result with one volatile write
+ *   others:    when they get the lock, their mutation is usually done already - they just read the result
+ *
+ * While one combiner copies, the next writers queue up behind the lock, so the busier the writers,
+ * the bigger the batches and the fewer copies per write. Without contention a batch has one mutation
+ * and it works exactly like CopyOnWriteArrayList.
+ *
+ * Readers never lock: get/size/contains/iterator read the current array, which is never modified after it
+ * was published. An iterator is a snapshot - it never throws ConcurrentModificationException and does not
+ * see writes made after it was created (iterator.remove() is not supported, as in CopyOnWriteArrayList).
+ *
+ * Every write method blocks until its own mutation is applied, so the usual "write, then read your write"
+ * still holds. An exception or error (e.g. IndexOutOfBoundsException, or an AssertionError from a comparator) is
+ * thrown in the thread which made the call, and only that mutation is skipped - the others of the batch are applied.
+ * A removeIf filter or sort comparator may read the list, but modifying it from there throws IllegalStateException.
+ * */
+
+public class CombiningCopyOnWriteList<E> implements CustomList<E> {
+
+    private static final Object[] EMPTY = {};
+
+    // one mutation, applied by the combiner to the working copy
+    @FunctionalInterface
+    private interface Operation {
+        Object apply(WorkingCopy copy);
+    }
+
+    private static final class Mutation {
+        final Operation operation;
+        final int growth; // elements the mutation may add, so the copy is allocated big enough at once
+        Object result;
+        Throwable failure;
+        boolean done; // written and read while holding the lock
+
+        Mutation(Operation operation, int growth) {
+            this.operation = operation;
+            this.growth = growth;
+        }
+    }
+
+    // Fields
+    private volatile Object[] array = EMPTY; // published snapshot, never modified
+    private final Queue<Mutation> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Mutation> batch = new ArrayList<>(); // reused by the combiner
+    private long batches = 0;
+    private long mutations = 0;
+
+    public CombiningCopyOnWriteList() {
+    }
+
+    public CombiningCopyOnWriteList(Collection<? extends E> elements) {
+        this.array = Arrays.copyOf(elements.toArray(), elements.size(), Object[].class);
+    }
+
+    // Write path
+
+    private Object submit(Operation operation, int growth) {
+        if (lock.isHeldByCurrentThread()) { // called from a filter / comparator of a mutation being applied right now
+            throw new IllegalStateException("list modified from inside one of its own callbacks");
+        }
+        Mutation mutation = new Mutation(operation, growth);
+        pending.add(mutation);
+        lock.lock();
+        try {
+            if (!mutation.done) { // nobody took it yet - combine everything pending, including our own
+                combine();
+            }
+        } finally {
+            lock.unlock();
+        }
+        Throwable failure = mutation.failure;
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        if (failure != null) { // a checked exception thrown sneakily by a callback
+            throw new IllegalStateException(failure);
+        }
+        return mutation.result;
+    }
+
+    /*
+     * Called with the lock held. Whatever a mutation throws belongs to the thread which submitted it: it is stored
+     * and rethrown there, and the rest of the batch is still applied and published. The finally part always runs,
+     * so no mutation is left 'done' but unpublished and the batch list is always empty for the next combiner.
+     * */
+    private void combine() {
+        int growth = 0;
+        Mutation mutation;
+        while ((mutation = pending.poll()) != null) {
+            batch.add(mutation);
+            growth += mutation.growth;
+        }
+        WorkingCopy copy = new WorkingCopy(array, growth);
+        try {
+            for (Mutation m : batch) {
+                copy.reserve -= m.growth; // room left for the mutations after this one
+                try {
+                    m.result = m.operation.apply(copy);
+                } catch (Throwable e) {
+                    m.failure = e;
+                }
+            }
+        } finally {
+            try {
+                if (copy.copied) {
+                    array = copy.publish();
+                }
+            } catch (Throwable e) { // e.g. OutOfMemoryError while trimming - nothing of the batch became visible
+                for (Mutation m : batch) {
+                    m.result = null;
+                    m.failure = e;
+                }
+            } finally {
+                for (Mutation m : batch) {
+                    m.done = true;
+                }
+                batches++;
+                mutations += batch.size();
+                batch.clear();
+            }
+        }
+    }
+
+    /*
+     * The batch's view of the array. It starts on the published array itself; the first real change makes the
+     * one private copy - and does its own shift while copying, so a batch of a single add or remove costs one pass
+     * over the array, just like CopyOnWriteArrayList. The copy gets room for the adds still to come ('reserve').
+     * Nobody else can see the copy before publish().
+     * */
+    private static final class WorkingCopy {
+        private Object[] elements;
+        private int size;
+        private int reserve;
+        private boolean copied = false;
+
+        WorkingCopy(Object[] array, int growth) {
+            this.elements = array;
+            this.size = array.length;
+            this.reserve = growth;
+        }
+
+        private void checkRange(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("illegal index: " + index);
+            }
+        }
+
+        private void checkRangeForAdd(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Illegal index: " + index);
+            }
+        }
+
+        /*
+         * Makes room for 'shift' new slots at index (shift > 0) or closes -shift slots at index (shift < 0).
+         * First change of the batch: copy and shift in one pass. Later: shift inside the private copy.
+         * */
+        private void shift(int index, int shift) {
+            int newSize = size + shift;
+            int tail = size - index - Math.max(0, -shift); // elements behind the changed range
+            if (!copied) {
+                Object[] copy = new Object[newSize + reserve];
+                System.arraycopy(elements, 0, copy, 0, index);
+                System.arraycopy(elements, size - tail, copy, newSize - tail, tail);
+                elements = copy;
+                copied = true;
+            } else {
+                if (newSize > elements.length) { // only if a growth hint was too small
+                    elements = Arrays.copyOf(elements, Math.max(newSize, elements.length + (elements.length / 2)));
+                }
+                System.arraycopy(elements, size - tail, elements, newSize - tail, tail);
+                if (shift < 0) {
+                    Arrays.fill(elements, newSize, size, null);
+                }
+            }
+            size = newSize;
+        }
+
+        // for changes which keep the positions (set, sort)
+        private void copyOnce() {
+            if (!copied) {
+                elements = Arrays.copyOf(elements, size + reserve);
+                copied = true;
+            }
+        }
+
+        void add(int index, Object element) {
+            checkRangeForAdd(index);
+            shift(index, 1);
+            elements[index] = element;
+        }
+
+        void addAll(int index, Object[] added) {
+            checkRangeForAdd(index);
+            if (added.length > 0) {
+                shift(index, added.length);
+                System.arraycopy(added, 0, elements, index, added.length);
+            }
+        }
+
+        Object remove(int index) {
+            checkRange(index);
+            Object old = elements[index];
+            shift(index, -1);
+            return old;
+        }
+
+        Object set(int index, Object element) {
+            checkRange(index);
+            Object old = elements[index];
+            copyOnce();
+            elements[index] = element;
+            return old;
+        }
+
+        int indexOf(Object element) {
+            for (int i = 0; i < size; i++) {
+                if (element == null ? elements[i] == null : element.equals(elements[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // the filter runs before anything is moved - if it throws, the copy is unchanged for the rest of the batch
+        @SuppressWarnings("unchecked")
+        <E> boolean removeIf(Predicate<? super E> filter) {
+            BitSet removes = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (filter.test((E) elements[i])) {
+                    removes.set(i);
+                }
+            }
+            if (removes.isEmpty()) {
+                return false;
+            }
+            Object[] kept = copied ? elements : new Object[size - removes.cardinality() + reserve];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removes.get(i)) {
+                    kept[count++] = elements[i];
+                }
+            }
+            Arrays.fill(kept, count, Math.min(size, kept.length), null);
+            elements = kept;
+            size = count;
+            copied = true;
+            return true;
+        }
+
+        // sorted in a separate array, so a comparator which throws halfway leaves the copy unchanged
+        @SuppressWarnings("unchecked")
+        void sort(Comparator<?> comparator) {
+            Object[] sorted = Arrays.copyOf(elements, copied ? elements.length : size + reserve);
+            Arrays.sort(sorted, 0, size, (Comparator<Object>) comparator);
+            elements = sorted;
+            copied = true;
+        }
+
+        void clear() {
+            if (size > 0) {
+                elements = new Object[reserve];
+                size = 0;
+                copied = true;
+            }
+        }
+
+        // the published array has exactly 'size' slots, so readers can use array.length as size
+        Object[] publish() {
+            return size == elements.length ? elements : Arrays.copyOf(elements, size);
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        submit(copy -> {
+            copy.add(copy.size, element);
+            return null;
+        }, 1);
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        submit(copy -> {
+            copy.add(index, element);
+            return null;
+        }, 1);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        Object[] added = elements.toArray();
+        submit(copy -> {
+            copy.addAll(index, added);
+            return null;
+        }, added.length);
+        return added.length > 0;
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> elements) {
+        Object[] added = elements.toArray();
+        submit(copy -> {
+            copy.addAll(index, added);
+            return null;
+        }, added.length);
+        return added.length > 0;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        return (Boolean) submit(copy -> {
+            int index = copy.indexOf(element); // searched in the working copy - earlier mutations of the batch count
+            if (index < 0) {
+                return false;
+            }
+            copy.remove(index);
+            return true;
+        }, 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        return (E) submit(copy -> copy.remove(index), 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        return (E) submit(copy -> copy.set(index, element), 0);
+    }
+
+    // one mutation for the whole filter - the default (remove(i) per match) would copy once per removed element
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return (Boolean) submit(copy -> copy.removeIf(filter), 0);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        submit(copy -> {
+            copy.sort(comparator);
+            return null;
+        }, 0);
+    }
+
+    @Override
+    public void clear() {
+        submit(copy -> {
+            copy.clear();
+            return null;
+        }, 0);
+    }
+
+    // Read path - one volatile read of 'array', no lock
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Object[] snapshot = array;
+        if (index < 0 || index >= snapshot.length) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+        return (E) snapshot[index];
+    }
+
+    @Override
+    public int indexOf(E element) {
+        Object[] snapshot = array;
+        for (int i = 0; i < snapshot.length; i++) {
+            if (element == null ? snapshot[i] == null : element.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+    // number of copies made so far, and the mutations they applied
+    public long combinedBatches() {
+        lock.lock();
+        try {
+            return batches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double averageBatchSize() {
+        lock.lock();
+        try {
+            return batches == 0 ? 0 : (double) mutations / batches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // e.g. after filling the list, so the statistics only cover the writes which follow
+    public void resetStats() {
+        lock.lock();
+        try {
+            batches = 0;
+            mutations = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Snapshot iteration
+
+    @Override
+    public Iterator<E> iterator() {
+        Object[] snapshot = array;
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current >= snapshot.length)
+                    throw new NoSuchElementException();
+                return (E) snapshot[current++];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (Object element : array) {
+            action.accept((E) element);
+        }
+    }
+
+    // the default walks by index with get(), which could mix two versions of the list - use one snapshot
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        Object[] snapshot = array;
+        if (from < 0 || to > snapshot.length || from > to) {
+            throw new IndexOutOfBoundsException("Illegal range: [" + from + ", " + to + ")");
+        }
+        for (int i = from; i < to; i++) {
+            action.accept((E) snapshot[i]);
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(array);
+    }
+
+    // TESTING
+    public static void main(String[] args) throws InterruptedException {
+        CombiningCopyOnWriteList<String> list = new CombiningCopyOnWriteList<>(Arrays.asList("AA", "BB", "CC", "DD", "EE"));
+
+        System.out.println("=== Test: Add / Remove / Set ===");
+        list.add("FF");
+        list.add(0, "00");
+        list.remove("CC");
+        list.set(1, "aa");
+        System.out.println(list); // Expect: [00, aa, BB, DD, EE, FF]
+        try {
+            list.remove(10);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("Exception: " + e.getMessage()); // Expect: illegal index: 10
+        }
+
+        System.out.println("\n=== Test: Failing callbacks ===");
+        try {
+            list.sort((a, b) -> {
+                throw new AssertionError("comparator failed");
+            });
+        } catch (AssertionError e) {
+            System.out.println("Error: " + e.getMessage()); // Expect: comparator failed
+        }
+        try {
+            list.removeIf(s -> list.add("ZZ")); // modifying the list from its own filter
+        } catch (IllegalStateException e) {
+            System.out.println("Exception: " + e.getMessage()); // Expect: list modified from inside one of its own callbacks
+        }
+        list.add("FF");
+        list.remove("FF");
+        System.out.println(list); // Expect: [00, aa, BB, DD, EE, FF] - unchanged, still writable
+
+        System.out.println("\n=== Test: Modify while iterating (no ConcurrentModificationException) ===");
+        for (String s : list) {
+            if (s.equals("BB")) {
+                list.add("GG"); // the iterator keeps its snapshot
+            }
+            System.out.print(s + " "); // Expect: 00 aa BB DD EE FF
+        }
+        System.out.println("\n" + list); // Expect: [00, aa, BB, DD, EE, FF, GG]
+
+        System.out.println("\n=== Test: 8 writer threads, 2 reader threads ===");
+        CombiningCopyOnWriteList<Integer> shared = new CombiningCopyOnWriteList<>();
+        int writers = 8;
+        int perWriter = 5_000;
+        Thread[] threads = new Thread[writers + 2];
+        for (int t = 0; t < writers; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    shared.add(id * perWriter + i);
+                }
+            });
+        }
+        long[] readerPasses = new long[2];
+        for (int r = 0; r < 2; r++) {
+            int id = r;
+            threads[writers + r] = new Thread(() -> {
+                try {
+                    while (shared.size() < writers * perWriter) {
+                        long sum = 0;
+                        for (Integer value : shared) {
+                            sum += value;
+                        }
+                        readerPasses[id]++;
+                    }
+                } catch (ConcurrentModificationException e) {
+                    System.out.println("Exception in reader thread: " + e); // never happens
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long distinct = shared.stream().distinct().count();
+        System.out.println("size: " + shared.size() + ", distinct: " + distinct); // Expect: size: 40000, distinct: 40000
+        System.out.printf("array copies: %d for %d writes (%.1f writes per copy)%n",
+                shared.combinedBatches(), writers * perWriter, shared.averageBatchSize());
+    }
+}
@@ -0,0 +1,389 @@
+package com.collectionFramework.list.arrayList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/*
+ * Circular array (ring buffer) - a CustomList which is also a double ended queue.
+ *
+ * Used as a FIFO queue, CustomArrayList.remove(0) shifts the whole array on every poll,
+ * and CustomLinkedList allocates a Node on every offer. Here both ends are O(1):
+ *
+ *   elements = [ e f g _ _ _ a b c d ]      head = 6, size = 7
+ *                        ↑     ↑
+ *                      tail   head          the elements "wrap around" the end of the array
+ *
+ * The capacity is always a power of two, so the position of element i is (head + i) & (capacity - 1) -
+ * a bit mask instead of the slower % operator. When the array is full it doubles, and the elements are
+ * unwrapped to start at 0 again (amortized O(1) per add, same as CustomArrayList).
+ *
+ * add(index, e) / remove(index) in the middle move the SHORTER side - at most size / 2 elements.
+ * null is not allowed, because pollFirst()/peekFirst() return null for an empty deque (same as ArrayDeque).
+ * */
+
+public class CustomArrayDeque<E> implements CustomList<E> {
+
+    // Fields
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head = 0; // index of the first element
+    private int size = 0;
+
+    public CustomArrayDeque() {
+        this.elements = new Object[MIN_CAPACITY];
+    }
+
+    public CustomArrayDeque(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("illegal Capacity:" + initialCapacity);
+        }
+        this.elements = new Object[powerOfTwoAtLeast(initialCapacity)];
+    }
+
+    private static int powerOfTwoAtLeast(int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("required capacity too large: " + capacity);
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    // array index of element number 'index'
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    // doubles the array and unwraps the elements, so that head = 0 again
+    private void ensureCapacity(int needCapacity) {
+        if (needCapacity > elements.length) {
+            Object[] newElements = new Object[powerOfTwoAtLeast(needCapacity)];
+            int firstPart = Math.min(size, elements.length - head); // head .. end of the array
+            System.arraycopy(elements, head, newElements, 0, firstPart);
+            System.arraycopy(elements, 0, newElements, firstPart, size - firstPart); // wrapped part
+            this.elements = newElements;
+            this.head = 0;
+        }
+    }
+
+    private static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException("CustomArrayDeque does not permit null elements");
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    // Deque operations - all O(1)
+
+    public boolean offerFirst(E element) {
+        checkNotNull(element);
+        ensureCapacity(size + 1);
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = element;
+        size++;
+        return true;
+    }
+
+    public boolean offerLast(E element) {
+        checkNotNull(element);
+        ensureCapacity(size + 1);
+        elements[slot(size)] = element;
+        size++;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        E element = (E) elements[head];
+        elements[head] = null; // release reference for GC
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return element;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = slot(size - 1);
+        E element = (E) elements[tail];
+        elements[tail] = null;
+        size--;
+        return element;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekFirst() {
+        return (E) elements[head]; // null when empty - the slot is always cleared
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekLast() {
+        return size == 0 ? null : (E) elements[slot(size - 1)];
+    }
+
+    // queue view: peek() = peekFirst()
+    public E peek() {
+        return peekFirst();
+    }
+
+    // List operations
+
+    @Override
+    public boolean add(E element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        checkNotNull(element);
+        ensureCapacity(size + 1);
+        if (index < size / 2) { // front part is shorter - move it one slot to the left
+            head = (head - 1) & (elements.length - 1);
+            for (int i = 0; i < index; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+        } else { // move the back part one slot to the right
+            for (int i = size; i > index; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+        }
+        elements[slot(index)] = element;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkRange(index);
+        E element = (E) elements[slot(index)];
+        if (index < size / 2) { // move the front part one slot to the right
+            for (int i = index; i > 0; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+            elements[head] = null;
+            head = (head + 1) & (elements.length - 1);
+        } else { // move the back part one slot to the left
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+            elements[slot(size - 1)] = null;
+        }
+        size--;
+        return element;
+    }
+
+    // single pass compaction (same idea as CustomArrayList.removeIf, also when the filter throws), counted in logical positions
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        int write = 0;
+        int read = 0;
+        boolean removed;
+        try {
+            for (; read < size; read++) {
+                Object element = elements[slot(read)];
+                if (!filter.test((E) element)) {
+                    elements[slot(write++)] = element;
+                }
+            }
+        } finally {
+            for (; read < size && write < read; read++) { // filter threw an exception - keep the elements which were not visited yet
+                elements[slot(write++)] = elements[slot(read)];
+            }
+            if (read < size) { // nothing was removed before the exception - the tail is already in place
+                write = size;
+            }
+            for (int i = write; i < size; i++) {
+                elements[slot(i)] = null; // release references for GC
+            }
+            removed = write != size;
+            size = write;
+        }
+        return removed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        return (E) elements[slot(index)];
+    }
+
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (element.equals(elements[slot(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkRange(index);
+        checkNotNull(element);
+        int slot = slot(index);
+        E oldValue = (E) elements[slot];
+        elements[slot] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[slot(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, result, 0, firstPart);
+        System.arraycopy(elements, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Object[] data = this.elements;
+        int mask = data.length - 1;
+        for (int i = 0, n = this.size; i < n; i++) {
+            action.accept((E) data[(head + i) & mask]);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return (E) elements[slot(current++)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        CustomArrayDeque<String> deque = new CustomArrayDeque<>();
+
+        System.out.println("=== Test: Deque Operations ===");
+        deque.offerLast("B");
+        deque.offerLast("C");
+        deque.offerFirst("A");
+        System.out.println(deque + " peek: " + deque.peek() + ", peekLast: " + deque.peekLast()); // Expect: [A, B, C] peek: A, peekLast: C
+        System.out.println(deque.pollFirst() + " " + deque.pollLast() + " " + deque); // Expect: A C [B]
+        deque.pollFirst();
+        System.out.println(deque.pollFirst() + " " + deque.peek()); // Expect: null null
+
+        System.out.println("\n=== Test: Wrap Around and Growth ===");
+        for (int i = 0; i < 12; i++) {
+            deque.offerLast("x" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            deque.pollFirst(); // head moves to the right
+        }
+        for (int i = 12; i < 30; i++) {
+            deque.offerLast("x" + i); // wraps around, then grows
+        }
+        System.out.println(deque.size() + " elements, capacity " + deque.capacity()); // Expect: 20 elements, capacity 32
+        System.out.println(deque.get(0) + " .. " + deque.get(deque.size() - 1)); // Expect: x10 .. x29
+
+        System.out.println("\n=== Test: List Operations ===");
+        deque.clear();
+        deque.add("A");
+        deque.add("C");
+        deque.add(1, "B");
+        deque.add(0, "START");
+        deque.add(deque.size(), "END");
+        System.out.println(deque); // Expect: [START, A, B, C, END]
+        deque.remove(1);
+        deque.remove("C");
+        System.out.println(deque + " indexOf(END): " + deque.indexOf("END")); // Expect: [START, B, END] indexOf(END): 2
+
+        try {
+            deque.offerLast(null);
+        } catch (NullPointerException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+    }
+}
@@ -2,7 +2,15 @@ package com.collectionFramework.list.arrayList;
 
 import com.collectionFramework.list.listInterface.CustomList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class CustomArrayList<E> implements CustomList<E> {
 
@@ -10,17 +18,32 @@ public class CustomArrayList<E> implements CustomList<E> {
     private Object[] elementData;
     private int size = 0;
     private static final int INITIAL_CAPACITY = 10;
+    private final CapacityPolicy capacityPolicy;
+
+    // Memory instrumentation - see memoryReport()
+    private long resizeCount = 0;
+    private long elementsCopied = 0; // elements copied into a new array on grow/shrink/trimToSize
+    private static final int REFERENCE_SIZE = 4; // bytes per slot with compressed oops (the default for heaps < 32 GB)
 
     // Constructors
     public CustomArrayList() {
-        this.elementData = new Object[INITIAL_CAPACITY];
+        this(INITIAL_CAPACITY, CapacityPolicy.defaultPolicy());
     }
 
     public CustomArrayList(int initialCapacity) {
+        this(initialCapacity, CapacityPolicy.defaultPolicy());
+    }
+
+    public CustomArrayList(CapacityPolicy capacityPolicy) {
+        this(INITIAL_CAPACITY, capacityPolicy);
+    }
+
+    public CustomArrayList(int initialCapacity, CapacityPolicy capacityPolicy) {
         if(initialCapacity < 0) {
             throw new IllegalArgumentException("illegal Capacity:" + initialCapacity);
         }
         this.elementData = new Object[initialCapacity];
+        this.capacityPolicy = capacityPolicy;
     }
 
     @Override
@@ -35,16 +58,56 @@ public class CustomArrayList<E> implements CustomList<E> {
 
     private void ensureCapacity(int needCapacity) {
         if (needCapacity > elementData.length) {
-            Object[] oldElements = this.elementData;
-            // compute new capacity
-            int oldCapacity = elementData.length;
-            int newCapacity = oldCapacity + (oldCapacity / 2);
+            // compute new capacity - the policy decides (default: 1.5x, or needCapacity if still too small)
+            int newCapacity = capacityPolicy.grow(elementData.length, needCapacity);
+            resize(newCapacity);
+        }
+    }
 
-            if (newCapacity < needCapacity) { // if still too small, then
-                newCapacity = needCapacity;
-            }
+    // called after removals - gives memory back when the policy says the array is mostly empty
+    private void shrinkIfNeeded() {
+        int newCapacity = capacityPolicy.shrink(elementData.length, this.size);
+        if (newCapacity < elementData.length && newCapacity >= this.size) {
+            resize(newCapacity);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        this.elementData = Arrays.copyOf(this.elementData, newCapacity);
+        resizeCount++;
+        elementsCopied += this.size;
+    }
+
+    // shrinks the backing array to exactly size() elements
+    public void trimToSize() {
+        if (this.size < elementData.length) {
+            resize(this.size);
+        }
+    }
 
-            this.elementData = Arrays.copyOf(oldElements, newCapacity);
+    public int capacity() {
+        return elementData.length;
+    }
+
+    /*
+     * Footprint / occupancy report of the backing array:
+     *   capacity, size, wasted (unused) slots, occupancy, number of resizes and bytes copied by them.
+     * Bytes are estimated with REFERENCE_SIZE per slot (compressed oops), the element objects themselves are not counted.
+     * */
+    public MemoryReport memoryReport() {
+        int capacity = elementData.length;
+        return new MemoryReport(capacity, size, capacity - size,
+                capacity == 0 ? 1.0 : (double) size / capacity,
+                (long) capacity * REFERENCE_SIZE, (long) (capacity - size) * REFERENCE_SIZE,
+                resizeCount, elementsCopied * REFERENCE_SIZE);
+    }
+
+    public record MemoryReport(int capacity, int size, int wastedSlots, double occupancy,
+                               long arrayBytes, long wastedBytes, long resizes, long bytesCopied) {
+        @Override
+        public String toString() {
+            return String.format("capacity=%d, size=%d, wasted=%d slots (%d bytes), occupancy=%.1f%%, array=%d bytes, resizes=%d, copied=%d bytes",
+                    capacity, size, wastedSlots, wastedBytes, occupancy * 100, arrayBytes, resizes, bytesCopied);
         }
     }
 
@@ -108,9 +171,99 @@ public class CustomArrayList<E> implements CustomList<E> {
             System.arraycopy(this.elementData, index+1, this.elementData, index, movedNumber);
         }
         elementData[--this.size] = null;
+        shrinkIfNeeded();
         return (E) element;
     }
 
+    // Bulk operations
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        return addAllFromArray(index, elements.toArray());
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> elements) {
+        return addAllFromArray(index, elements.toArray());
+    }
+
+    // grows at most once and shifts the tail only once, instead of once per inserted element
+    private boolean addAllFromArray(int index, Object[] newElements) {
+        checkRangeForAdd(index);
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+        ensureCapacity(this.size + count);
+        int movedNumber = this.size - index;
+        if (movedNumber > 0) {
+            System.arraycopy(this.elementData, index, this.elementData, index + count, movedNumber); // make a gap of 'count' slots
+        }
+        System.arraycopy(newElements, 0, this.elementData, index, count);
+        this.size += count;
+        return true;
+    }
+
+    /*
+     * Single pass compaction:
+     * 'read' walks over every element, 'write' points to the next free slot for an element we keep.
+     * Kept elements are moved to the left only once, so removing many elements is O(n) instead of O(n²).
+     * */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        int write = 0;
+        int read = 0;
+        boolean removed;
+        try {
+            for (; read < this.size; read++) {
+                Object element = this.elementData[read];
+                if (!filter.test((E) element)) {
+                    this.elementData[write++] = element;
+                }
+            }
+        } finally {
+            if (read < this.size) { // filter threw an exception - keep the elements which were not visited yet
+                System.arraycopy(this.elementData, read, this.elementData, write, this.size - read);
+                write += this.size - read;
+            }
+            Arrays.fill(this.elementData, write, this.size, null); // release references for GC
+            removed = write != this.size;
+            this.size = write; // also when the filter threw - the slots behind 'write' are already cleared
+            if (removed) {
+                shrinkIfNeeded();
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        return removeIf(elements::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    // Sorting (stable merge sort directly on elementData - see MergeSorter)
+    // comparator == null sorts by natural order (elements must be Comparable).
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        MergeSorter.sort(this.elementData, this.size, comparator);
+    }
+
+    // Fork-join version - worth it for large lists only; ranges up to the cutoff are sorted sequentially.
+    public void parallelSort(Comparator<? super E> comparator) {
+        parallelSort(comparator, MergeSorter.DEFAULT_PARALLEL_CUTOFF);
+    }
+
+    public void parallelSort(Comparator<? super E> comparator, int sequentialCutoff) {
+        MergeSorter.parallelSort(this.elementData, this.size, comparator, sequentialCutoff);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public E get(int index) {
@@ -150,6 +303,7 @@ public class CustomArrayList<E> implements CustomList<E> {
     public void clear() {
         Arrays.fill(this.elementData, 0, size, null);
         this.size = 0;
+        shrinkIfNeeded();
     }
 
     @Override
@@ -163,6 +317,33 @@ public class CustomArrayList<E> implements CustomList<E> {
         return new CustomIterator();
     }
 
+    /*
+     * Internal iteration - the loop runs here, over local copies of elementData and size,
+     * so there is no iterator to allocate and the JIT can hoist the bounds check out of the loop.
+     * */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        forEach(0, this.size, action);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        if (from < 0 || to > this.size || from > to) {
+            throw new IndexOutOfBoundsException("Illegal range: [" + from + ", " + to + ")");
+        }
+        Objects.requireNonNull(action);
+        Object[] data = this.elementData;
+        for (int i = from; i < to; i++) {
+            action.accept((E) data[i]);
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new CustomSpliterator(0, -1);
+    }
+
     @Override
     public String toString() {
         return Arrays.toString(Arrays.copyOf(this.elementData, this.size));
@@ -175,15 +356,98 @@ public class CustomArrayList<E> implements CustomList<E> {
 
         @Override
         public boolean hasNext(){
-            return this.current < size();
+            return this.current < size;
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public E next(){
+            if (current >= size)
+                throw new NoSuchElementException();
             E value = (E) elementData[current++];
             return value;
         }
+
+        // fast path: one loop over the array instead of a hasNext()/next() pair per element
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Object[] data = elementData;
+            int high = size;
+            for (int i = current; i < high; i++) {
+                action.accept((E) data[i]);
+            }
+            current = high;
+        }
+    }
+
+    /*
+     * Custom Spliterator
+     * It covers the index range [index, fence) of elementData.
+     * trySplit() gives away the left half of the range, so fork-join can keep halving the work across all cores.
+     * fence = -1 means "not bound yet" - the size is read on first use, so elements added before
+     * the stream starts are still seen.
+     * */
+    private class CustomSpliterator implements Spliterator<E> {
+
+        private int index;
+        private int fence;
+
+        CustomSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int mid = (low + high) >>> 1;
+            if (low >= mid) { // too small to split
+                return null;
+            }
+            index = mid;
+            return new CustomSpliterator(low, mid);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index < getFence()) {
+                action.accept((E) elementData[index++]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super E> action) {
+            Object[] data = elementData;
+            int high = getFence();
+            for (int i = index; i < high; i++) {
+                action.accept((E) data[i]);
+            }
+            index = high;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 
     // TESTING
@@ -231,16 +495,99 @@ public class CustomArrayList<E> implements CustomList<E> {
         System.out.println("\n=== Test: Exceptions ===");
         try {
             list.add(-1, "Invalid");
-        } catch (IllegalArgumentException e) {
+        } catch (IndexOutOfBoundsException e) {
             System.out.println("Caught expected exception: " + e.getMessage());
         }
 
         try {
             list.remove(100); // invalid index
-        } catch (IllegalArgumentException e) {
+        } catch (IndexOutOfBoundsException e) {
             System.out.println("Caught expected exception: " + e.getMessage());
         }
 
+        // 7. Test bulk operations
+        System.out.println("\n=== Test: Bulk Operations ===");
+        list.addAll(1, List.of("P", "Q", "R"));
+        System.out.println(list); // Expect: [B, P, Q, R, C, E0, ...]
+        list.removeIf(s -> s.startsWith("E"));
+        System.out.println(list); // Expect: [B, P, Q, R, C]
+        list.removeAll(List.of("P", "R"));
+        System.out.println(list); // Expect: [B, Q, C]
+        list.retainAll(List.of("B", "C"));
+        System.out.println(list); // Expect: [B, C]
+
+        // 8. Test streams
+        System.out.println("\n=== Test: Streams ===");
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        for (int i = 1; i <= 1_000_000; i++) {
+            numbers.add(i);
+        }
+        System.out.println(numbers.stream().mapToLong(Integer::longValue).sum()); // Expect: 500000500000
+        System.out.println(numbers.parallelStream().mapToLong(Integer::longValue).sum()); // Expect: 500000500000
+
+        // 9. Test capacity policy and memory report
+        System.out.println("\n=== Test: Capacity Policy ===");
+        CustomArrayList<Integer> burst = new CustomArrayList<>(new GrowthShrinkPolicy.GrowthShrinkPolicyBuilder()
+                .growthFactor(2.0)
+                .maxGrowthStep(1 << 16)
+                .shrinkBelowOccupancy(0.25)
+                .shrinkToOccupancy(0.5)
+                .build());
+        for (int i = 0; i < 200_000; i++) {
+            burst.add(i);
+        }
+        System.out.println("after burst:   " + burst.memoryReport());
+        burst.removeIf(value -> value >= 1_000);
+        System.out.println("after cleanup: " + burst.memoryReport()); // capacity shrinks to ~2000
+        burst.trimToSize();
+        System.out.println("after trim:    " + burst.memoryReport()); // capacity == size
+
+        // 10. Test sorting (stable: equal GPAs keep the order of the names)
+        System.out.println("\n=== Test: Sort ===");
+        record Student(String name, Double gpa) {
+        }
+        CustomArrayList<Student> students = new CustomArrayList<>();
+        students.add(new Student("Dave", 3.5));
+        students.add(new Student("Alice", 3.9));
+        students.add(new Student("Carol", 3.5));
+        students.add(new Student("Bob", 3.9));
+        students.sort(Comparator.comparing(Student::name));
+        students.sort(Comparator.comparingDouble(Student::gpa).reversed()); // second sort keeps names in order
+        students.forEach(student -> System.out.println(student.name() + " " + student.gpa())); // Expect: Alice, Bob, Carol, Dave
+
+        java.util.Random random = new java.util.Random(7);
+        CustomArrayList<Integer> big = new CustomArrayList<>();
+        CustomArrayList<Integer> copy = new CustomArrayList<>();
+        for (int i = 0; i < 2_000_000; i++) {
+            Integer value = random.nextInt();
+            big.add(value);
+            copy.add(value);
+        }
+        Object[] expected = big.toArray();
+        Arrays.sort(expected);
+        long start = System.nanoTime();
+        copy.sort(null);
+        System.out.printf("sort:         %6d ms, sorted: %b%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(copy.toArray(), expected));
+        start = System.nanoTime();
+        big.parallelSort(null);
+        System.out.printf("parallelSort: %6d ms, sorted: %b%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(big.toArray(), expected));
+
+        // 11. Test internal iteration
+        System.out.println("\n=== Test: forEach ===");
+        long[] sum = new long[1];
+        numbers.forEach(value -> sum[0] += value);
+        System.out.println(sum[0]); // Expect: 500000500000
+        sum[0] = 0;
+        numbers.forEach(0, 10, value -> sum[0] += value);
+        System.out.println(sum[0]); // Expect: 55
+        Iterator<Integer> rest = numbers.iterator();
+        rest.next();
+        sum[0] = 0;
+        rest.forEachRemaining(value -> sum[0] += value);
+        System.out.println(sum[0]); // Expect: 500000499999
+
         System.out.println("\n=== Final List State ===");
         System.out.println(list);
     }
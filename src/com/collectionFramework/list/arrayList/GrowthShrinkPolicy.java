@@ -0,0 +1,128 @@
+package com.collectionFramework.list.arrayList;
+
+/*
+ * Configurable CapacityPolicy, created with its builder:
+ *
+ *   CapacityPolicy policy = new GrowthShrinkPolicy.GrowthShrinkPolicyBuilder()
+ *                   .growthFactor(2.0)           // capacity * 2 on growth
+ *                   .maxGrowthStep(1 << 20)      // but never more than 1M new slots at once
+ *                   .shrinkBelowOccupancy(0.25)  // shrink when less than 25% of the slots are used
+ *                   .shrinkToOccupancy(0.5)      // ...to a capacity where 50% are used
+ *                   .build();
+ *
+ * Hysteresis: after a shrink the array is half full, so it needs to double (grow) or halve (shrink)
+ * again before the next resize - add/remove around one size does not resize all the time.
+ * That's why shrinkToOccupancy must be bigger than shrinkBelowOccupancy.
+ * */
+
+public class GrowthShrinkPolicy implements CapacityPolicy {
+
+    static final GrowthShrinkPolicy DEFAULT = new GrowthShrinkPolicyBuilder().build();
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8; // some JVMs keep header words in arrays
+
+    private final double growthFactor;
+    private final int maxGrowthStep;
+    private final double shrinkBelowOccupancy; // 0 = never shrink
+    private final double shrinkToOccupancy;
+    private final int minCapacity;
+
+    // Private constructor - create it only via GrowthShrinkPolicyBuilder
+    private GrowthShrinkPolicy(GrowthShrinkPolicyBuilder builder) {
+        this.growthFactor = builder.growthFactor;
+        this.maxGrowthStep = builder.maxGrowthStep;
+        this.shrinkBelowOccupancy = builder.shrinkBelowOccupancy;
+        this.shrinkToOccupancy = builder.shrinkToOccupancy;
+        this.minCapacity = builder.minCapacity;
+    }
+
+    @Override
+    public int grow(int oldCapacity, int needCapacity) {
+        long step = (long) (oldCapacity * (growthFactor - 1));
+        step = Math.min(step, maxGrowthStep);
+        long newCapacity = oldCapacity + step;
+
+        if (newCapacity < needCapacity) { // if still too small, then
+            newCapacity = needCapacity;
+        }
+        return (int) Math.min(newCapacity, Math.max(MAX_ARRAY_SIZE, needCapacity));
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        if (shrinkBelowOccupancy <= 0 || capacity <= minCapacity || size >= capacity * shrinkBelowOccupancy) {
+            return capacity;
+        }
+        int newCapacity = (int) Math.ceil(size / shrinkToOccupancy);
+        return Math.max(minCapacity, newCapacity);
+    }
+
+    // Getters only
+    public double getGrowthFactor() { return growthFactor; }
+    public int getMaxGrowthStep() { return maxGrowthStep; }
+    public double getShrinkBelowOccupancy() { return shrinkBelowOccupancy; }
+    public double getShrinkToOccupancy() { return shrinkToOccupancy; }
+    public int getMinCapacity() { return minCapacity; }
+
+    @Override
+    public String toString() {
+        return "GrowthShrinkPolicy{" +
+                "growthFactor=" + growthFactor +
+                ", maxGrowthStep=" + maxGrowthStep +
+                ", shrinkBelowOccupancy=" + shrinkBelowOccupancy +
+                ", shrinkToOccupancy=" + shrinkToOccupancy +
+                ", minCapacity=" + minCapacity +
+                '}';
+    }
+
+    // Static nested Builder class - defaults are the old CustomArrayList behaviour (1.5x, no shrink)
+
+    public static class GrowthShrinkPolicyBuilder {
+        private double growthFactor = 1.5;
+        private int maxGrowthStep = Integer.MAX_VALUE;
+        private double shrinkBelowOccupancy = 0;
+        private double shrinkToOccupancy = 0.5;
+        private int minCapacity = 10;
+
+        public GrowthShrinkPolicyBuilder growthFactor(double growthFactor) {
+            this.growthFactor = growthFactor;
+            return this;
+        }
+
+        public GrowthShrinkPolicyBuilder maxGrowthStep(int maxGrowthStep) {
+            this.maxGrowthStep = maxGrowthStep;
+            return this;
+        }
+
+        public GrowthShrinkPolicyBuilder shrinkBelowOccupancy(double shrinkBelowOccupancy) {
+            this.shrinkBelowOccupancy = shrinkBelowOccupancy;
+            return this;
+        }
+
+        public GrowthShrinkPolicyBuilder shrinkToOccupancy(double shrinkToOccupancy) {
+            this.shrinkToOccupancy = shrinkToOccupancy;
+            return this;
+        }
+
+        public GrowthShrinkPolicyBuilder minCapacity(int minCapacity) {
+            this.minCapacity = minCapacity;
+            return this;
+        }
+
+        public GrowthShrinkPolicy build() {
+            if (growthFactor <= 1) {
+                throw new IllegalArgumentException("growth factor must be > 1: " + growthFactor);
+            }
+            if (maxGrowthStep < 1) {
+                throw new IllegalArgumentException("max growth step must be >= 1: " + maxGrowthStep);
+            }
+            if (minCapacity < 0) {
+                throw new IllegalArgumentException("min capacity must be >= 0: " + minCapacity);
+            }
+            if (shrinkBelowOccupancy > 0 && (shrinkToOccupancy <= shrinkBelowOccupancy || shrinkToOccupancy > 1)) {
+                throw new IllegalArgumentException("shrinkToOccupancy must be in (shrinkBelowOccupancy, 1]: " + shrinkToOccupancy);
+            }
+            return new GrowthShrinkPolicy(this);
+        }
+    }
+}
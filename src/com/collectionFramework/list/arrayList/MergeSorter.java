@@ -0,0 +1,222 @@
+package com.collectionFramework.list.arrayList;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * Stable merge sort used by CustomArrayList.sort() and CustomArrayList.parallelSort().
+ *
+ * Stable = elements which compare equal keep their order. That's what makes comparator chains like
+ *   comparingDouble(Student::gpa).reversed().thenComparing(Student::name)
+ * behave as expected when a list is sorted by one key after another.
+ *
+ * Memory: ONE scratch array of 'size' elements per sort call - every task uses only its own [lo, hi) part of it,
+ * so no merge step allocates anything.
+ *
+ * Parallel version (fork-join):
+ *   - a range larger than 'cutoff' is split into two halves which are sorted in parallel,
+ *   - the two sorted halves are merged in parallel too (otherwise the last O(n) merge would run on one core):
+ *     the longer run is cut in the middle, the matching position in the other run is found by binary search,
+ *     and both pairs are merged independently.
+ *   - results move between the list array and the scratch array ("ping-pong"), so nothing is copied back.
+ * */
+
+final class MergeSorter {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    static final int DEFAULT_PARALLEL_CUTOFF = 1 << 13; // same granularity Arrays.parallelSort uses
+
+    private MergeSorter() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> cast(Comparator<?> comparator) {
+        return (Comparator<Object>) (comparator != null ? comparator : Comparator.naturalOrder()); // null = natural order, like List.sort(null)
+    }
+
+    static void sort(Object[] a, int size, Comparator<?> comparator) {
+        if (size < 2) {
+            return;
+        }
+        Object[] scratch = new Object[size];
+        sequentialSort(a, scratch, 0, size, cast(comparator));
+    }
+
+    static void parallelSort(Object[] a, int size, Comparator<?> comparator, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("illegal cutoff: " + cutoff);
+        }
+        if (size <= cutoff || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            sort(a, size, comparator);
+            return;
+        }
+        Object[] scratch = new Object[size];
+        ForkJoinPool.commonPool().invoke(new SortTask(a, scratch, 0, size, true, cast(comparator), cutoff));
+    }
+
+    // Sequential part
+
+    // sorts a[lo, hi) in place, scratch[lo, hi) is used as temporary space
+    private static void sequentialSort(Object[] a, Object[] scratch, int lo, int hi, Comparator<Object> c) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, lo, hi, c);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sequentialSort(a, scratch, lo, mid, c);
+        sequentialSort(a, scratch, mid, hi, c);
+        if (c.compare(a[mid - 1], a[mid]) <= 0) { // already in order - nothing to merge
+            return;
+        }
+        System.arraycopy(a, lo, scratch, lo, mid - lo); // left run to scratch, then merge back into a
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            a[k++] = (c.compare(a[j], scratch[i]) < 0) ? a[j++] : scratch[i++]; // on a tie the left element wins (stable)
+        }
+        System.arraycopy(scratch, i, a, k, mid - i); // rest of the right run is already in place
+    }
+
+    private static void insertionSort(Object[] a, int lo, int hi, Comparator<Object> c) {
+        for (int i = lo + 1; i < hi; i++) {
+            Object value = a[i];
+            int j = i - 1;
+            while (j >= lo && c.compare(a[j], value) > 0) { // '>' and not '>=' keeps it stable
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void sequentialMerge(Object[] src, Object[] dst, int lo1, int hi1, int lo2, int hi2, int out,
+                                        Comparator<Object> c) {
+        while (lo1 < hi1 && lo2 < hi2) {
+            dst[out++] = (c.compare(src[lo2], src[lo1]) < 0) ? src[lo2++] : src[lo1++];
+        }
+        System.arraycopy(src, lo1, dst, out, hi1 - lo1);
+        System.arraycopy(src, lo2, dst, out + (hi1 - lo1), hi2 - lo2);
+    }
+
+    // first index in [lo, hi) with src[index] >= key
+    private static int lowerBound(Object[] src, int lo, int hi, Object key, Comparator<Object> c) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(src[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // first index in [lo, hi) with src[index] > key
+    private static int upperBound(Object[] src, int lo, int hi, Object key, Comparator<Object> c) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(src[mid], key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Parallel part
+
+    // sorts the elements of a[lo, hi) into a (intoA == true) or into scratch (intoA == false)
+    // ForkJoinTask is Serializable, the tasks are never serialized - hence @SuppressWarnings("serial") on both
+    @SuppressWarnings("serial")
+    private static class SortTask extends RecursiveAction {
+        private final Object[] a;
+        private final Object[] scratch;
+        private final int lo;
+        private final int hi;
+        private final boolean intoA;
+        private final Comparator<Object> c;
+        private final int cutoff;
+
+        SortTask(Object[] a, Object[] scratch, int lo, int hi, boolean intoA, Comparator<Object> c, int cutoff) {
+            this.a = a;
+            this.scratch = scratch;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoA = intoA;
+            this.c = c;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= cutoff) {
+                sequentialSort(a, scratch, lo, hi, c);
+                if (!intoA) {
+                    System.arraycopy(a, lo, scratch, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            // both halves are sorted into the OTHER array, then merged into the target array
+            invokeAll(new SortTask(a, scratch, lo, mid, !intoA, c, cutoff),
+                    new SortTask(a, scratch, mid, hi, !intoA, c, cutoff));
+            Object[] src = intoA ? scratch : a;
+            Object[] dst = intoA ? a : scratch;
+            if (c.compare(src[mid - 1], src[mid]) <= 0) { // already in order - just move the block
+                System.arraycopy(src, lo, dst, lo, hi - lo);
+            } else {
+                new MergeTask(src, dst, lo, mid, mid, hi, lo, c, cutoff).compute();
+            }
+        }
+    }
+
+    // merges src[lo1, hi1) and src[lo2, hi2) into dst starting at 'out'
+    @SuppressWarnings("serial")
+    private static class MergeTask extends RecursiveAction {
+        private final Object[] src;
+        private final Object[] dst;
+        private final int lo1, hi1, lo2, hi2, out;
+        private final Comparator<Object> c;
+        private final int cutoff;
+
+        MergeTask(Object[] src, Object[] dst, int lo1, int hi1, int lo2, int hi2, int out,
+                  Comparator<Object> c, int cutoff) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+            this.c = c;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 <= cutoff || length1 == 0 || length2 == 0) {
+                sequentialMerge(src, dst, lo1, hi1, lo2, hi2, out, c);
+                return;
+            }
+            int split1;
+            int split2;
+            if (length1 >= length2) {
+                // left run cut at its middle; right elements strictly smaller go first (equal ones stay after - stable)
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(src, lo2, hi2, src[split1], c);
+            } else {
+                // right run cut at its middle; left elements smaller or equal go first (stable)
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(src, lo1, hi1, src[split2], c);
+            }
+            int secondOut = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new MergeTask(src, dst, lo1, split1, lo2, split2, out, c, cutoff),
+                    new MergeTask(src, dst, split1, hi1, split2, hi2, secondOut, c, cutoff));
+        }
+    }
+}
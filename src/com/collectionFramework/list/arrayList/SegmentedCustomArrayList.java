@@ -0,0 +1,323 @@
+package com.collectionFramework.list.arrayList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/*
+ * Segmented storage for an array list - a directory of fixed-size chunks instead of one big array.
+ *
+ *   CustomArrayList:          elementData = [ .......................... one huge array .......................... ]
+ *   SegmentedCustomArrayList: chunks      = [ chunk 0 ][ chunk 1 ][ chunk 2 ] ... each CHUNK_SIZE elements
+ *
+ * Why?
+ *   When CustomArrayList with tens of millions of elements is full, Arrays.copyOf() allocates a new giant array
+ *   and copies everything in one step - a long pause, and a "humongous" object for the G1 garbage collector.
+ *   Here growing only allocates ONE new chunk; existing elements never move.
+ *   (Only the small directory of chunk references is copied when it is full.)
+ *
+ * get/set stay O(1): chunk = index >>> CHUNK_SHIFT, position = index & CHUNK_MASK.
+ * A chunk of 16K references is 64 KB, well below the G1 humongous threshold.
+ * */
+
+public class SegmentedCustomArrayList<E> implements CustomList<E> {
+
+    // Fields
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 16384 elements
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_DIRECTORY = 4;
+
+    private Object[][] chunks = new Object[INITIAL_DIRECTORY][];
+    private int chunkCount = 0; // allocated chunks
+    private int size = 0;
+
+    public SegmentedCustomArrayList() {
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return chunkCount << CHUNK_SHIFT;
+    }
+
+    // growing = allocating new chunks only, elements are never copied
+    private void ensureCapacity(int needCapacity) {
+        while (needCapacity > capacity()) {
+            if (chunkCount == chunks.length) { // directory is full - it only holds references, so copying it is cheap
+                chunks = Arrays.copyOf(chunks, chunks.length + (chunks.length / 2) + 1);
+            }
+            chunks[chunkCount++] = new Object[CHUNK_SIZE];
+        }
+    }
+
+    // keeps one empty chunk as spare (so add/remove around a chunk border does not allocate every time), frees the rest
+    private void releaseUnusedChunks() {
+        int usedChunks = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+        while (chunkCount > usedChunks + 1) {
+            chunks[--chunkCount] = null;
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(this.size + 1);
+        chunks[size >>> CHUNK_SHIFT][size & CHUNK_MASK] = element; // added element at the end.
+        size++;
+        return true;
+    }
+
+    /*
+     * Shift right by 1 position, chunk by chunk from the end:
+     * every chunk shifts inside itself and receives the last element of the previous chunk at position 0.
+     * */
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        ensureCapacity(this.size + 1);
+        int target = index >>> CHUNK_SHIFT;
+        int lastChunk = size >>> CHUNK_SHIFT; // chunk which gets the new last position
+
+        for (int c = lastChunk; c > target; c--) {
+            int end = (c == lastChunk) ? (size & CHUNK_MASK) : CHUNK_MASK;
+            System.arraycopy(chunks[c], 0, chunks[c], 1, end);
+            chunks[c][0] = chunks[c - 1][CHUNK_MASK];
+        }
+        int offset = index & CHUNK_MASK;
+        int end = (target == lastChunk) ? (size & CHUNK_MASK) : CHUNK_MASK;
+        System.arraycopy(chunks[target], offset, chunks[target], offset + 1, end - offset);
+
+        chunks[target][offset] = element;
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    // Shift left by 1 position, chunk by chunk from the removed index to the end.
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkRange(index);
+        int target = index >>> CHUNK_SHIFT;
+        int lastChunk = (size - 1) >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        Object element = chunks[target][offset];
+
+        for (int c = target; c <= lastChunk; c++) {
+            int from = (c == target) ? offset : 0;
+            int end = (c == lastChunk) ? ((size - 1) & CHUNK_MASK) : CHUNK_MASK;
+            System.arraycopy(chunks[c], from + 1, chunks[c], from, end - from);
+            if (c < lastChunk) {
+                chunks[c][CHUNK_MASK] = chunks[c + 1][0];
+            }
+        }
+        --this.size;
+        chunks[size >>> CHUNK_SHIFT][size & CHUNK_MASK] = null;
+        releaseUnusedChunks();
+        return (E) element;
+    }
+
+    // single pass compaction over all chunks (same idea as CustomArrayList.removeIf, also when the filter throws)
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        int write = 0;
+        int read = 0;
+        boolean removed;
+        try {
+            for (; read < size; read++) {
+                Object element = chunks[read >>> CHUNK_SHIFT][read & CHUNK_MASK];
+                if (!filter.test((E) element)) {
+                    chunks[write >>> CHUNK_SHIFT][write & CHUNK_MASK] = element;
+                    write++;
+                }
+            }
+        } finally {
+            for (; read < size && write < read; read++, write++) { // filter threw an exception - keep the elements which were not visited yet
+                chunks[write >>> CHUNK_SHIFT][write & CHUNK_MASK] = chunks[read >>> CHUNK_SHIFT][read & CHUNK_MASK];
+            }
+            if (read < size) { // nothing was removed before the exception - the tail is already in place
+                write = size;
+            }
+            for (int i = write; i < size; i++) {
+                chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] = null; // release references for GC
+            }
+            removed = write != size;
+            size = write;
+            if (removed) {
+                releaseUnusedChunks();
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        return (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int indexOf(E element) {
+        for (int c = 0, start = 0; start < size; c++, start += CHUNK_SIZE) {
+            Object[] chunk = chunks[c];
+            for (int i = 0, n = Math.min(CHUNK_SIZE, size - start); i < n; i++) {
+                if (element == null ? chunk[i] == null : element.equals(chunk[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkRange(index);
+        Object[] chunk = chunks[index >>> CHUNK_SHIFT];
+        E oldValue = (E) chunk[index & CHUNK_MASK];
+        chunk[index & CHUNK_MASK] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int c = 0, start = 0; start < size; c++, start += CHUNK_SIZE) {
+            Arrays.fill(chunks[c], 0, Math.min(CHUNK_SIZE, size - start), null);
+        }
+        this.size = 0;
+        releaseUnusedChunks();
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int c = 0, start = 0; start < size; c++, start += CHUNK_SIZE) {
+            System.arraycopy(chunks[c], 0, result, start, Math.min(CHUNK_SIZE, size - start));
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                E value = (E) chunks[current >>> CHUNK_SHIFT][current & CHUNK_MASK];
+                current++;
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        SegmentedCustomArrayList<String> list = new SegmentedCustomArrayList<>();
+
+        System.out.println("=== Test: Add / Remove ===");
+        list.add("A");
+        list.add("B");
+        list.add(null);
+        list.add(1, "X");
+        System.out.println(list); // Expect: [A, X, B, null]
+        list.remove(null);
+        list.remove(0);
+        System.out.println(list); // Expect: [X, B]
+
+        System.out.println("\n=== Test: Shifts across chunk borders ===");
+        SegmentedCustomArrayList<Integer> numbers = new SegmentedCustomArrayList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(numbers.size());
+            if (i % 2 == 0) {
+                numbers.add(index, -i);
+                expected.add(index, -i);
+            } else {
+                numbers.remove(index);
+                expected.remove(index);
+            }
+        }
+        System.out.println("Same as java.util.ArrayList: " + Arrays.equals(numbers.toArray(), expected.toArray())); // Expect: true
+
+        System.out.println("\n=== Test: Worst single add() latency while growing to 20M elements ===");
+        Integer value = 1; // same object every time - we measure the list, not the elements
+        CustomArrayList<Integer> arrayList = new CustomArrayList<>();
+        long worst = 0;
+        for (int i = 0; i < 20_000_000; i++) {
+            long start = System.nanoTime();
+            arrayList.add(value);
+            worst = Math.max(worst, System.nanoTime() - start);
+        }
+        System.out.printf("CustomArrayList:          %8.2f ms%n", worst / 1_000_000.0);
+        arrayList = null;
+        System.gc(); // don't let the garbage of the first list pause the second measurement
+
+        SegmentedCustomArrayList<Integer> segmented = new SegmentedCustomArrayList<>();
+        worst = 0;
+        for (int i = 0; i < 20_000_000; i++) {
+            long start = System.nanoTime();
+            segmented.add(value);
+            worst = Math.max(worst, System.nanoTime() - start);
+        }
+        System.out.printf("SegmentedCustomArrayList: %8.2f ms%n", worst / 1_000_000.0);
+    }
+}
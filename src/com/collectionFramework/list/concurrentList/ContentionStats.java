@@ -0,0 +1,33 @@
+package com.collectionFramework.list.concurrentList;
+
+/*
+ * Counters of a StampedCustomList / StampedList since creation (or the last resetStats()).
+ *
+ *   optimisticReads      reads which tried the optimistic path
+ *   optimisticFailures   of those, reads which had to be repeated under the read lock (a writer was active)
+ *   lockedReads          reads done under the read lock (failures + copies such as toArray / iterator)
+ *   writes               write operations
+ *   contendedWrites      writes which had to wait for the lock
+ *   writeWaitNanos       total time writers waited for the lock
+ *
+ * The values are read one after another while other threads keep counting - a snapshot, not an atomic one.
+ * */
+
+public record ContentionStats(long optimisticReads, long optimisticFailures, long lockedReads,
+                              long writes, long contendedWrites, long writeWaitNanos) {
+
+    public double optimisticFailureRate() {
+        return optimisticReads == 0 ? 0 : (double) optimisticFailures / optimisticReads;
+    }
+
+    // over all writes, uncontended ones count as 0
+    public double averageWriteWaitNanos() {
+        return writes == 0 ? 0 : (double) writeWaitNanos / writes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("optimistic reads: %d (%.3f%% failed), locked reads: %d, writes: %d (%d contended, avg wait %.0f ns)",
+                optimisticReads, optimisticFailureRate() * 100, lockedReads, writes, contendedWrites, averageWriteWaitNanos());
+    }
+}
@@ -0,0 +1,303 @@
+package com.collectionFramework.list.concurrentList;
+
+import com.collectionFramework.list.arrayList.CustomArrayDeque;
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.arrayList.SegmentedCustomArrayList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/*
+ * Thread-safe wrapper for any CustomList - the StampedLock alternative to Collections.synchronizedList.
+ *
+ *   Collections.synchronizedList   every get/size/contains takes the same monitor → readers queue up behind each other
+ *   StampedCustomList              get/size/isEmpty/contains/indexOf are optimistic reads: no lock at all as long
+ *                                  as no write happens at the same time; only then the read is repeated under the
+ *                                  read lock (see StampedGuard). Writes take the write lock.
+ *
+ * Iteration (iterator, forEach, stream) works on a snapshot copied under the read lock - it never throws
+ * ConcurrentModificationException and does not block writers while the caller loops.
+ * listIterator() is the indexed one of CustomList: every step is atomic on its own, the whole walk is not.
+ *
+ * StampedLock is not reentrant: a removeIf filter or sort comparator must not call back into the same list.
+ *
+ * stats() reports how often the optimistic path failed and how long writers waited - a high failure rate means
+ * the list is written too often for optimistic reads to pay off.
+ *
+ * Optimistic reads are on by default only for the array-backed lists (CustomArrayList, CustomArrayDeque,
+ * SegmentedCustomArrayList); every other list - linked nodes, hash indexes, ... - is wrapped with
+ * optimisticReads = false (always the read lock), see StampedGuard.
+ * */
+
+public class StampedCustomList<E> implements CustomList<E> {
+
+    // Fields
+    private final CustomList<E> list;
+    private final StampedGuard guard;
+
+    public StampedCustomList(CustomList<E> list) {
+        this(list, isArrayBacked(list));
+    }
+
+    public StampedCustomList(CustomList<E> list, boolean optimisticReads) {
+        this.list = Objects.requireNonNull(list);
+        this.guard = new StampedGuard(optimisticReads);
+    }
+
+    // only a plain array can be read safely while a writer changes it (see StampedGuard)
+    private static boolean isArrayBacked(CustomList<?> list) {
+        return list instanceof CustomArrayList || list instanceof CustomArrayDeque || list instanceof SegmentedCustomArrayList;
+    }
+
+    // Reads - optimistic
+
+    @Override
+    public boolean isEmpty() {
+        return guard.readInt(() -> list.isEmpty() ? 1 : 0) != 0;
+    }
+
+    @Override
+    public int size() {
+        return guard.readInt(list::size);
+    }
+
+    @Override
+    public E get(int index) {
+        return guard.read(() -> list.get(index));
+    }
+
+    @Override
+    public int indexOf(E element) {
+        return guard.readInt(() -> list.indexOf(element));
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return guard.lockedRead(list::toArray);
+    }
+
+    // Writes
+
+    @Override
+    public boolean add(E element) {
+        return guard.write(() -> list.add(element));
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        return guard.write(() -> list.add(index, element));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        return guard.write(() -> list.addAll(index, elements));
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> elements) {
+        Object[] added = elements.toArray(); // copied first - 'elements' may be another StampedCustomList
+        @SuppressWarnings("unchecked")
+        List<? extends E> copy = (List<? extends E>) Arrays.asList(added);
+        return guard.write(() -> list.addAll(index, copy));
+    }
+
+    @Override
+    public boolean remove(E element) {
+        return guard.write(() -> list.remove(element));
+    }
+
+    @Override
+    public E remove(int index) {
+        return guard.write(() -> list.remove(index));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return guard.write(() -> list.set(index, element));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return guard.write(() -> list.removeIf(filter));
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        guard.write(() -> list.sort(comparator));
+    }
+
+    @Override
+    public void clear() {
+        guard.write(list::clear);
+    }
+
+    // Snapshot iteration
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return (Iterator<E>) Collections.unmodifiableList(Arrays.asList(toArray())).iterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object element : toArray()) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        Object[] snapshot = toArray();
+        if (from < 0 || to > snapshot.length || from > to) {
+            throw new IndexOutOfBoundsException("Illegal range: [" + from + ", " + to + ")");
+        }
+        Objects.requireNonNull(action);
+        for (int i = from; i < to; i++) {
+            action.accept((E) snapshot[i]);
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    // Statistics
+
+    public ContentionStats stats() {
+        return guard.stats();
+    }
+
+    public void resetStats() {
+        guard.resetStats();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) throws InterruptedException {
+        StampedCustomList<String> list = new StampedCustomList<>(new CustomArrayList<>());
+
+        System.out.println("=== Test: Add / Get / Remove ===");
+        list.add("A");
+        list.add("B");
+        list.add(1, "X");
+        System.out.println(list + " size " + list.size() + ", contains B: " + list.contains("B")); // Expect: [A, X, B] size 3, contains B: true
+        list.remove("X");
+        System.out.println(list.get(1)); // Expect: B
+        try {
+            list.get(5);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("Exception: " + e.getMessage()); // a real error is not retried
+        }
+
+        System.out.println("\n=== Test: Modify while iterating (snapshot, no ConcurrentModificationException) ===");
+        for (String s : list) {
+            list.add(s + s);
+            System.out.print(s + " "); // Expect: A B
+        }
+        System.out.println("\n" + list); // Expect: [A, B, AA, BB]
+
+        System.out.println("\n=== Test: 4 readers, 1 writer - optimistic reads vs synchronizedList ===");
+        for (int round = 0; round < 2; round++) { // first round warms up the JIT
+            List<Integer> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+            StampedCustomList<Integer> stamped = new StampedCustomList<>(new CustomArrayList<>());
+            for (int i = 0; i < 1_000; i++) {
+                synchronizedList.add(i);
+                stamped.add(i);
+            }
+            long synchronizedReads = readHeavy(synchronizedList::get, synchronizedList::set);
+            stamped.resetStats();
+            long stampedReads = readHeavy(stamped::get, stamped::set);
+            if (round == 1) {
+                System.out.println("synchronizedList:  " + synchronizedReads + " reads in 1 s");
+                System.out.println("StampedCustomList: " + stampedReads + " reads in 1 s");
+                System.out.println(stamped.stats());
+            }
+        }
+    }
+
+    private static volatile long sink; // blackhole
+
+    private interface Getter {
+        Integer get(int index);
+    }
+
+    private interface Setter {
+        Integer set(int index, Integer value);
+    }
+
+    // 4 threads call get() in a loop, 1 thread calls set() every 10 µs; returns the number of reads
+    private static long readHeavy(Getter getter, Setter setter) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] reads = new long[4 * 16]; // own slot per thread, 16 longs apart (no false sharing)
+        Thread[] threads = new Thread[5];
+        for (int t = 0; t < threads.length; t++) {
+            int slot = t * 16;
+            boolean writer = t == 4;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long count = 0;
+                long sum = 0;
+                int index = 0;
+                while (running.get()) {
+                    index = (index + 1) % 1_000;
+                    if (writer) {
+                        setter.set(index, index);
+                        LockSupport.parkNanos(10_000);
+                    } else {
+                        sum += getter.get(index);
+                        count++;
+                    }
+                }
+                if (!writer) {
+                    reads[slot] = count;
+                }
+                sink += sum;
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        Thread.sleep(1_000);
+        running.set(false);
+        long total = 0;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int t = 0; t < 4; t++) {
+            total += reads[t * 16];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,140 @@
+package com.collectionFramework.list.concurrentList;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/*
+ * The locking shared by StampedCustomList and StampedList.
+ *
+ * Optimistic read (StampedLock):
+ *   stamp = tryOptimisticRead()     no lock, no write to shared memory - readers do not slow each other down
+ *   read the list
+ *   validate(stamp)                 true → no write happened in between, the result is consistent
+ *                                   false → a writer was active: read again under the read lock
+ *
+ * The wrapped list is read while a writer may be changing it, so an optimistic read can see a half-done
+ * write - get() may even throw (e.g. ArrayIndexOutOfBoundsException while the array grows). Such an exception
+ * only counts if validate() succeeds; otherwise the read is repeated under the read lock like any other failure.
+ * That is safe for array-backed lists. A linked list walked during an unlink could in theory follow a stale
+ * chain for a long time, a HashMap index may be in the middle of a resize - so StampedCustomList and StampedList
+ * read optimistically only for known array-backed lists (StampedList: RandomAccess) and use the read lock for
+ * everything else.
+ *
+ * Counters are LongAdders - one shared AtomicLong would put back the contention the optimistic read avoids.
+ * */
+
+final class StampedGuard {
+
+    private final StampedLock lock = new StampedLock();
+    private final boolean optimisticReads;
+
+    private final LongAdder optimisticAttempts = new LongAdder();
+    private final LongAdder optimisticFailures = new LongAdder();
+    private final LongAdder lockedReads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder contendedWrites = new LongAdder();
+    private final LongAdder writeWaitNanos = new LongAdder();
+
+    StampedGuard(boolean optimisticReads) {
+        this.optimisticReads = optimisticReads;
+    }
+
+    <T> T read(Supplier<T> reader) {
+        if (optimisticReads) {
+            optimisticAttempts.increment();
+            long stamp = lock.tryOptimisticRead(); // 0 if a writer holds the lock right now
+            if (stamp != 0) {
+                try {
+                    T result = reader.get();
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e; // consistent state - a real error, e.g. index out of range
+                    }
+                }
+            }
+            optimisticFailures.increment();
+        }
+        return lockedRead(reader);
+    }
+
+    // int version of read() - size() and indexOf() without boxing
+    int readInt(IntSupplier reader) {
+        if (optimisticReads) {
+            optimisticAttempts.increment();
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                try {
+                    int result = reader.getAsInt();
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e;
+                    }
+                }
+            }
+            optimisticFailures.increment();
+        }
+        long stamp = lock.readLock();
+        try {
+            lockedReads.increment();
+            return reader.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // always under the read lock - for copies (toArray, snapshots), which would be expensive to repeat
+    <T> T lockedRead(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            lockedReads.increment();
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    <T> T write(Supplier<T> writer) {
+        long stamp = lock.tryWriteLock();
+        if (stamp == 0) { // contended - only then the clock is read
+            long start = System.nanoTime();
+            stamp = lock.writeLock();
+            writeWaitNanos.add(System.nanoTime() - start);
+            contendedWrites.increment();
+        }
+        try {
+            writes.increment();
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void write(Runnable writer) {
+        write(() -> {
+            writer.run();
+            return null;
+        });
+    }
+
+    ContentionStats stats() {
+        return new ContentionStats(optimisticAttempts.sum(), optimisticFailures.sum(), lockedReads.sum(),
+                writes.sum(), contendedWrites.sum(), writeWaitNanos.sum());
+    }
+
+    void resetStats() {
+        optimisticAttempts.reset();
+        optimisticFailures.reset();
+        lockedReads.reset();
+        writes.reset();
+        contendedWrites.reset();
+        writeWaitNanos.reset();
+    }
+}
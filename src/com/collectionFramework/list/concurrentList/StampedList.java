@@ -0,0 +1,289 @@
+package com.collectionFramework.list.concurrentList;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/*
+ * StampedCustomList for java.util.List - StampedList.of(list) replaces Collections.synchronizedList(list)
+ * in read-heavy code: get/size/isEmpty/contains/indexOf are optimistic reads, writes take the write lock
+ * (see StampedGuard). Like synchronizedList, the wrapper is RandomAccess exactly when the wrapped list is, so
+ * Collections.shuffle / reverse / binarySearch pick the same algorithm as for the list itself.
+ *
+ * Unlike synchronizedList, iterator(), forEach and stream() need no "synchronized (list) { ... }" block around
+ * them: they work on a snapshot copied under the read lock. The snapshot iterator is read-only - a change through
+ * it would only change the copy, so it throws UnsupportedOperationException.
+ * listIterator() is the index-based one of AbstractList: set/add/remove through it write to the list (that is what
+ * Collections.fill / reverse / shuffle use), every step is atomic on its own, the whole walk is not.
+ *
+ * Bulk writes (addAll, removeIf, replaceAll, sort, clear) run under ONE write lock, so other threads see all or
+ * nothing of them. Check-then-act sequences of several calls ("if (!contains(x)) add(x)") are still not atomic.
+ * StampedLock is not reentrant: a filter, operator or comparator must not call back into the same list.
+ * */
+
+public class StampedList<E> extends AbstractList<E> {
+
+    // Fields
+    private final List<E> list;
+    private final StampedGuard guard;
+
+    private StampedList(List<E> list, boolean optimisticReads) {
+        this.list = Objects.requireNonNull(list);
+        this.guard = new StampedGuard(optimisticReads);
+    }
+
+    public static <E> StampedList<E> of(List<E> list) {
+        return of(list, list instanceof RandomAccess); // array-backed - only those are read optimistically (see StampedGuard)
+    }
+
+    public static <E> StampedList<E> of(List<E> list, boolean optimisticReads) {
+        return list instanceof RandomAccess
+                ? new RandomAccessStampedList<>(list, optimisticReads)
+                : new StampedList<>(list, optimisticReads);
+    }
+
+    // marker only - the same class for lists with fast get(i) (Collections.synchronizedList does the same)
+    private static final class RandomAccessStampedList<E> extends StampedList<E> implements RandomAccess {
+
+        private RandomAccessStampedList(List<E> list, boolean optimisticReads) {
+            super(list, optimisticReads);
+        }
+    }
+
+    // Reads - optimistic
+
+    @Override
+    public int size() {
+        return guard.readInt(list::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return guard.readInt(() -> list.isEmpty() ? 1 : 0) != 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return guard.read(() -> list.get(index));
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return guard.readInt(() -> list.indexOf(element));
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        return guard.readInt(() -> list.lastIndexOf(element));
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return guard.lockedRead(list::toArray);
+    }
+
+    @Override
+    public <T> T[] toArray(T[] target) {
+        return guard.lockedRead(() -> list.toArray(target));
+    }
+
+    // Writes
+
+    @Override
+    public boolean add(E element) {
+        return guard.write(() -> list.add(element));
+    }
+
+    @Override
+    public void add(int index, E element) {
+        guard.write(() -> list.add(index, element));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        Object[] added = elements.toArray(); // copied first - 'elements' may be this list or another StampedList
+        return guard.write(() -> list.addAll(asList(added)));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        Object[] added = elements.toArray();
+        return guard.write(() -> list.addAll(index, asList(added)));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return guard.write(() -> list.set(index, element));
+    }
+
+    @Override
+    public E remove(int index) {
+        return guard.write(() -> list.remove(index));
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        return guard.write(() -> list.remove(element));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        Object[] removed = elements.toArray(); // 'elements' may be a view of this list - its contains() would deadlock
+        return guard.write(() -> list.removeAll(asList(removed)));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        Object[] retained = elements.toArray();
+        return guard.write(() -> list.retainAll(asList(retained)));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return guard.write(() -> list.removeIf(filter));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        guard.write(() -> list.replaceAll(operator));
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        guard.write(() -> list.sort(comparator));
+    }
+
+    @Override
+    public void clear() {
+        guard.write(list::clear);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> asList(Object[] elements) {
+        return (List<E>) Arrays.asList(elements);
+    }
+
+    // Snapshot iteration
+
+    // read-only copy of the current elements
+    public List<E> snapshot() {
+        return Collections.unmodifiableList(asList(toArray()));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object element : toArray()) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    // Statistics
+
+    public ContentionStats stats() {
+        return guard.stats();
+    }
+
+    public void resetStats() {
+        guard.resetStats();
+    }
+
+    // TESTING
+    public static void main(String[] args) throws InterruptedException {
+        StampedList<String> list = StampedList.of(new ArrayList<>(Arrays.asList("AA", "BB", "CC")));
+
+        System.out.println("=== Test: java.util.List API ===");
+        list.add("DD");
+        list.addAll(list); // copies itself first
+        list.removeIf(s -> s.equals("BB"));
+        System.out.println(list + " size " + list.size()); // Expect: [AA, CC, DD, AA, CC, DD] size 6
+        System.out.println(list.contains("DD") + " " + list.indexOf("CC") + " " + list.lastIndexOf("CC")); // Expect: true 1 4
+
+        System.out.println("\n=== Test: Iterate without synchronized block ===");
+        for (String s : list) {
+            if (s.equals("CC")) {
+                list.remove(s); // the iterator keeps its snapshot - no ConcurrentModificationException
+            }
+        }
+        System.out.println(list); // Expect: [AA, DD, AA, DD]
+
+        System.out.println("\n=== Test: Collections algorithms (write through set / listIterator) ===");
+        StampedList<Integer> digits = StampedList.of(new ArrayList<>());
+        StampedList<Integer> linked = StampedList.of(new LinkedList<>());
+        for (int i = 0; i < 30; i++) { // 30 elements - above the size where Collections switches to listIterator()
+            digits.add(i % 10);
+            linked.add(i % 10);
+        }
+        System.out.println((digits instanceof RandomAccess) + " " + (linked instanceof RandomAccess)); // Expect: true false
+        Collections.shuffle(digits);
+        Collections.shuffle(linked);
+        digits.sort(null);
+        Collections.reverse(linked);
+        linked.sort(null);
+        System.out.println(digits.equals(linked) + " " + digits.subList(0, 4)); // Expect: true [0, 0, 0, 1]
+        Collections.reverse(digits);
+        Collections.fill(linked, 7);
+        System.out.println(digits.get(0) + " " + linked.indexOf(0) + " " + linked.get(29)); // Expect: 9 -1 7
+
+        System.out.println("\n=== Test: readers and a writer ===");
+        StampedList<Integer> numbers = StampedList.of(new ArrayList<>());
+        for (int i = 0; i < 1_000; i++) {
+            numbers.add(i);
+        }
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                numbers.add(i); // grows the ArrayList - optimistic readers may see a half-done copy and retry
+                numbers.remove(numbers.size() - 1);
+            }
+        });
+        long[] sums = new long[3];
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            int id = r;
+            readers[r] = new Thread(() -> {
+                for (int i = 0; i < 2_000_000; i++) {
+                    sums[id] += numbers.get(i % 1_000);
+                }
+            });
+        }
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        System.out.println("sums: " + Arrays.toString(sums)); // Expect: [999000000, 999000000, 999000000] - get(i) always saw i
+        System.out.println(numbers.stats());
+    }
+}
@@ -0,0 +1,409 @@
+package com.collectionFramework.list.enumList;
+
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/*
+ * List of enum values stored as bit-packed ordinals.
+ *
+ * CustomArrayList<EmployeeRole> stores a 4-8 byte reference per element. An enum with 4 constants needs only 2 bits,
+ * one with 5 constants 3 bits - so a long holds 32 (or 21) elements:
+ *
+ *   words[0] = | pad | slot 20 | ... | slot 2 | slot 1 | slot 0 |     (3 bits per slot, slot 0 in the lowest bits)
+ *
+ * A slot never crosses a word border, so element i is at word i / perWord, bit (i % perWord) * bits.
+ *
+ * count(), indexOf() and positionsOf() compare a whole word at once ("SWAR" - SIMD within a register):
+ *   word ^ pattern  → slots equal to the searched value become 0 (pattern = the ordinal repeated in every slot)
+ *   fold the bits of every slot into its lowest bit, invert → one bit per matching slot, Long.bitCount() counts them.
+ *
+ * null can not be stored (there is no ordinal for it), same as EnumSet.
+ * */
+
+public class EnumCustomList<E extends Enum<E>> implements CustomList<E> {
+
+    private static final int INITIAL_WORDS = 2;
+
+    // Fields
+    private final E[] universe; // ordinal → constant
+    private final int bits; // bits per slot
+    private final int perWord; // slots per long
+    private final long slotMask; // 'bits' ones
+    private final long wordMask; // used bits of a word (perWord * bits ones)
+    private final long lowBits; // lowest bit of every slot set
+
+    private long[] words = new long[INITIAL_WORDS];
+    private int size = 0;
+
+    public EnumCustomList(Class<E> type) {
+        this.universe = type.getEnumConstants();
+        this.bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(universe.length - 1));
+        this.perWord = Long.SIZE / bits;
+        this.slotMask = (1L << bits) - 1;
+        this.wordMask = (perWord * bits == Long.SIZE) ? -1L : (1L << (perWord * bits)) - 1;
+        long low = 0;
+        for (int i = 0; i < perWord; i++) {
+            low |= 1L << (i * bits);
+        }
+        this.lowBits = low;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public int bitsPerElement() {
+        return bits;
+    }
+
+    // memory used by the packed storage (without the object headers)
+    public long packedBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    // same growth policy as CustomArrayList.ensureCapacity(), counted in words
+    private void ensureCapacity(int needSlots) {
+        int needWords = (needSlots + perWord - 1) / perWord;
+        if (needWords > words.length) {
+            int newLength = Math.max(words.length + (words.length / 2), needWords);
+            this.words = Arrays.copyOf(this.words, newLength);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    private static int ordinalOf(Enum<?> element) {
+        if (element == null) {
+            throw new NullPointerException("EnumCustomList does not store null");
+        }
+        return element.ordinal();
+    }
+
+    // Slot access
+
+    private int read(int index) {
+        return (int) ((words[index / perWord] >>> ((index % perWord) * bits)) & slotMask);
+    }
+
+    private void write(int index, int ordinal) {
+        int w = index / perWord;
+        int shift = (index % perWord) * bits;
+        words[w] = (words[w] & ~(slotMask << shift)) | ((long) ordinal << shift);
+    }
+
+    // List operations
+
+    @Override
+    public boolean add(E element) {
+        int ordinal = ordinalOf(element);
+        ensureCapacity(this.size + 1);
+        write(size++, ordinal); // added element at the end.
+        return true;
+    }
+
+    /*
+     * Shift right by one slot, word by word:
+     * the first word opens a gap at the slot, every following word shifts up by 'bits'
+     * and receives the top slot of the previous word at slot 0.
+     * */
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        int ordinal = ordinalOf(element);
+        ensureCapacity(this.size + 1);
+        int w = index / perWord;
+        int shift = (index % perWord) * bits;
+        int lastWord = size / perWord; // word which gets the new last slot
+        int topShift = (perWord - 1) * bits;
+
+        long word = words[w];
+        long lowMask = (1L << shift) - 1;
+        long carry = (word >>> topShift) & slotMask;
+        words[w] = ((word & lowMask) | ((long) ordinal << shift) | ((word & ~lowMask) << bits)) & wordMask;
+        for (int i = w + 1; i <= lastWord; i++) {
+            word = words[i];
+            long out = (word >>> topShift) & slotMask;
+            words[i] = ((word << bits) | carry) & wordMask;
+            carry = out;
+        }
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    // Shift left by one slot: the reverse of add(index) - every word takes slot 0 of the next word as its top slot.
+    @Override
+    public E remove(int index) {
+        checkRange(index);
+        E removed = universe[read(index)];
+        int w = index / perWord;
+        int shift = (index % perWord) * bits;
+        int lastWord = (size - 1) / perWord;
+        int topShift = (perWord - 1) * bits;
+
+        long word = words[w];
+        long lowMask = (1L << shift) - 1;
+        int highShift = shift + bits;
+        long high = (highShift >= Long.SIZE) ? 0 : word >>> highShift;
+        long newWord = (word & lowMask) | (high << shift);
+        if (w < lastWord) {
+            newWord |= (words[w + 1] & slotMask) << topShift;
+        }
+        words[w] = newWord;
+        for (int i = w + 1; i <= lastWord; i++) {
+            long next = (i < lastWord) ? (words[i + 1] & slotMask) << topShift : 0;
+            words[i] = (words[i] >>> bits) | next;
+        }
+        this.size--;
+        return removed;
+    }
+
+    // single pass compaction (same idea as CustomArrayList.removeIf, also when the filter throws), freed slots are zeroed
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int write = 0;
+        int read = 0;
+        boolean removed;
+        try {
+            for (; read < size; read++) {
+                int ordinal = read(read);
+                if (!filter.test(universe[ordinal])) {
+                    write(write++, ordinal);
+                }
+            }
+        } finally {
+            for (; read < size && write < read; read++) { // filter threw an exception - keep the codes which were not visited yet
+                write(write++, read(read));
+            }
+            if (read < size) { // nothing was removed before the exception - the tail is already in place
+                write = size;
+            }
+            for (int i = write; i < size; i++) {
+                write(i, 0);
+            }
+            removed = write != size;
+            this.size = write;
+        }
+        return removed;
+    }
+
+    @Override
+    public E get(int index) {
+        checkRange(index);
+        return universe[read(index)];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkRange(index);
+        int ordinal = ordinalOf(element);
+        E oldValue = universe[read(index)];
+        write(index, ordinal);
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0, (size + perWord - 1) / perWord, 0L);
+        this.size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = universe[read(i)];
+        }
+        return result;
+    }
+
+    // Word-parallel operations
+
+    // one bit (at the lowest bit of the slot) for every slot of 'word' equal to 'pattern'
+    private long matches(long word, long pattern) {
+        long x = word ^ pattern;
+        long folded = x;
+        for (int k = 1; k < bits; k++) {
+            folded |= x >>> k;
+        }
+        return ~folded & lowBits;
+    }
+
+    // lowest-bit mask of the slots of word 'w' which hold elements
+    private long validSlots(int w) {
+        int slots = Math.min(perWord, size - w * perWord);
+        return (slots == perWord) ? lowBits : lowBits & ((1L << (slots * bits)) - 1);
+    }
+
+    private int usedWords() {
+        return (size + perWord - 1) / perWord;
+    }
+
+    public int count(E value) {
+        if (value == null) {
+            return 0;
+        }
+        long pattern = value.ordinal() * lowBits; // ordinal repeated in every slot
+        int count = 0;
+        for (int w = 0, used = usedWords(); w < used; w++) {
+            count += Long.bitCount(matches(words[w], pattern) & validSlots(w));
+        }
+        return count;
+    }
+
+    // histogram: counts()[ordinal] = number of elements with that ordinal
+    public int[] counts() {
+        int[] counts = new int[universe.length];
+        for (E value : universe) {
+            counts[value.ordinal()] = count(value);
+        }
+        return counts;
+    }
+
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        long pattern = element.ordinal() * lowBits;
+        for (int w = 0, used = usedWords(); w < used; w++) {
+            long match = matches(words[w], pattern) & validSlots(w);
+            if (match != 0) {
+                return w * perWord + Long.numberOfTrailingZeros(match) / bits;
+            }
+        }
+        return -1;
+    }
+
+    // filter: indexes of all elements equal to 'value'
+    public BitSet positionsOf(E value) {
+        BitSet positions = new BitSet(size);
+        if (value == null) {
+            return positions;
+        }
+        long pattern = value.ordinal() * lowBits;
+        for (int w = 0, used = usedWords(); w < used; w++) {
+            long match = matches(words[w], pattern) & validSlots(w);
+            while (match != 0) {
+                positions.set(w * perWord + Long.numberOfTrailingZeros(match) / bits);
+                match &= match - 1; // clear lowest set bit
+            }
+        }
+        return positions;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return universe[read(current++)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    // (EmployeeRole, BallColor and PaymentType are package-private in designPatterns, so this demo uses a copy of EmployeeRole)
+    enum Role {
+        DEVELOPER, QA, INTERN, MANAGER, CEO
+    }
+
+    public static void main(String[] args) {
+        EnumCustomList<Role> roles = new EnumCustomList<>(Role.class);
+
+        System.out.println("=== Test: Add / Remove ===");
+        roles.add(Role.DEVELOPER);
+        roles.add(Role.CEO);
+        roles.add(Role.QA);
+        roles.add(1, Role.MANAGER);
+        System.out.println(roles); // Expect: [DEVELOPER, MANAGER, CEO, QA]
+        roles.remove(Role.CEO);
+        roles.set(0, Role.INTERN);
+        System.out.println(roles + ", " + roles.bitsPerElement() + " bits per element"); // Expect: [INTERN, MANAGER, QA], 3 bits
+
+        try {
+            roles.add(null);
+        } catch (NullPointerException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+
+        System.out.println("\n=== Test: 10M roles - memory and counting ===");
+        Role[] values = Role.values();
+        java.util.Random random = new java.util.Random(5);
+        EnumCustomList<Role> packed = new EnumCustomList<>(Role.class);
+        CustomArrayList<Role> references = new CustomArrayList<>();
+        for (int i = 0; i < 10_000_000; i++) {
+            Role role = values[random.nextInt(values.length)];
+            packed.add(role);
+            references.add(role);
+        }
+        System.out.printf("packed: %,d bytes, references: %,d bytes (4 bytes each with compressed oops)%n",
+                packed.packedBytes(), references.capacity() * 4L);
+
+        long start = System.nanoTime();
+        int managers = packed.count(Role.MANAGER);
+        System.out.printf("count(MANAGER) packed:    %,d in %.2f ms%n", managers, (System.nanoTime() - start) / 1e6);
+        start = System.nanoTime();
+        int expected = 0;
+        for (Role role : references) {
+            if (role == Role.MANAGER) {
+                expected++;
+            }
+        }
+        System.out.printf("count(MANAGER) reference: %,d in %.2f ms%n", expected, (System.nanoTime() - start) / 1e6);
+
+        System.out.println("counts: " + Arrays.toString(packed.counts()));
+        System.out.println("CEOs among the first 40: " + packed.positionsOf(Role.CEO).get(0, 40));
+    }
+}
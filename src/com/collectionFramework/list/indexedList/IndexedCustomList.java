@@ -0,0 +1,380 @@
+package com.collectionFramework.list.indexedList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/*
+ * Hash-indexed list - an array list plus a HashMap from element to all positions where it is stored.
+ *
+ *   elementData: [A, B, A, C]
+ *   index:       A → {0, 2},  B → {1},  C → {3}
+ *
+ * contains(e) / indexOf(e) / remove(e) ask the map instead of scanning the array, so they are O(1)
+ * (expected) instead of O(n). The positions of one element are kept sorted, so indexOf() is just the first one.
+ *
+ * Cost:
+ *   - add(e) at the end stays O(1).
+ *   - add(index, e) / remove(index) in the middle shift the array tail (O(n) like CustomArrayList)
+ *     and also fix the stored position of every shifted element.
+ *   - extra memory for the map.
+ *
+ * Null is handled the same way as in CustomArrayList - null is allowed, and found with == null (HashMap supports a null key).
+ *
+ * Note: do not change an element (its equals/hashCode) while it is inside the list - the map would not find it anymore.
+ * */
+
+public class IndexedCustomList<E> implements CustomList<E> {
+
+    // sorted positions of one element
+    private static class Positions {
+        int[] data = new int[2];
+        int count;
+
+        int first() {
+            return data[0];
+        }
+
+        // keeps the array sorted - the new position is mostly the biggest, so this is O(1) for appends
+        void insert(int position) {
+            if (count == data.length) {
+                data = Arrays.copyOf(data, count + (count / 2) + 1);
+            }
+            int i = count;
+            while (i > 0 && data[i - 1] > position) {
+                data[i] = data[i - 1];
+                i--;
+            }
+            data[i] = position;
+            count++;
+        }
+
+        void delete(int position) {
+            int i = Arrays.binarySearch(data, 0, count, position);
+            System.arraycopy(data, i + 1, data, i, count - i - 1);
+            count--;
+        }
+
+        // the order stays sorted, because callers move positions one step in the direction where the slot is free
+        void move(int from, int to) {
+            data[Arrays.binarySearch(data, 0, count, from)] = to;
+        }
+    }
+
+    // Fields
+    private Object[] elementData;
+    private int size = 0;
+    private final Map<Object, Positions> index = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 10;
+
+    // Constructors
+    public IndexedCustomList() {
+        this.elementData = new Object[INITIAL_CAPACITY];
+    }
+
+    public IndexedCustomList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("illegal Capacity:" + initialCapacity);
+        }
+        this.elementData = new Object[initialCapacity];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void ensureCapacity(int needCapacity) {
+        if (needCapacity > elementData.length) {
+            // compute new capacity
+            int oldCapacity = elementData.length;
+            int newCapacity = oldCapacity + (oldCapacity / 2);
+
+            if (newCapacity < needCapacity) { // if still too small, then
+                newCapacity = needCapacity;
+            }
+
+            this.elementData = Arrays.copyOf(this.elementData, newCapacity);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    // Index helpers
+
+    private void indexInsert(Object element, int position) {
+        index.computeIfAbsent(element, key -> new Positions()).insert(position);
+    }
+
+    private void indexDelete(Object element, int position) {
+        Positions positions = index.get(element);
+        positions.delete(position);
+        if (positions.count == 0) {
+            index.remove(element);
+        }
+    }
+
+    private void rebuildIndex() {
+        index.clear();
+        for (int i = 0; i < size; i++) {
+            indexInsert(elementData[i], i);
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(this.size + 1);
+        elementData[size] = element; // added element at the end.
+        indexInsert(element, size);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        if (index == size) {
+            return add(element);
+        }
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.elementData, index, elementData, index + 1, size - index); // shift elements to the right by 1 position.
+
+        // shifted elements move one position to the right - from the end, so the next slot is always free
+        for (int position = size; position > index; position--) {
+            this.index.get(elementData[position]).move(position - 1, position);
+        }
+
+        elementData[index] = element;
+        indexInsert(element, index);
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        Positions positions = index.get(element);
+        if (positions == null) {
+            return false;
+        }
+        remove(positions.first());
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkRange(index);
+        Object element = elementData[index];
+        indexDelete(element, index);
+        int movedNumber = size - index - 1;
+        if (movedNumber > 0) {
+            System.arraycopy(this.elementData, index + 1, this.elementData, index, movedNumber);
+        }
+        elementData[--this.size] = null;
+
+        // shifted elements move one position to the left - from the front, so the previous slot is always free
+        for (int position = index; position < size; position++) {
+            this.index.get(elementData[position]).move(position + 1, position);
+        }
+        return (E) element;
+    }
+
+    // one pass over the array and one index rebuild, instead of fixing the index per removed element
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        int write = 0;
+        int read = 0;
+        boolean removed;
+        try {
+            for (; read < size; read++) {
+                Object element = elementData[read];
+                if (!filter.test((E) element)) {
+                    elementData[write++] = element;
+                }
+            }
+        } finally {
+            if (read < size) { // filter threw an exception - keep the elements which were not visited yet
+                System.arraycopy(elementData, read, elementData, write, size - read);
+                write += size - read;
+            }
+            Arrays.fill(elementData, write, size, null);
+            removed = write != size;
+            size = write;
+            if (removed) {
+                rebuildIndex(); // positions moved - also when the filter threw halfway
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        checkRangeForAdd(index);
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+        boolean append = index == size;
+        ensureCapacity(size + count);
+        System.arraycopy(elementData, index, elementData, index + count, size - index);
+        System.arraycopy(newElements, 0, elementData, index, count);
+        size += count;
+        if (append) { // existing positions did not move
+            for (int i = index; i < size; i++) {
+                indexInsert(elementData[i], i);
+            }
+        } else {
+            rebuildIndex();
+        }
+        return true;
+    }
+
+    // same single shift + one index rebuild - the default would add (and re-index) element by element, O(n·m)
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, CustomList<? extends E> elements) {
+        return addAll(index, (Collection<? extends E>) Arrays.asList(elements.toArray()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        return (E) this.elementData[index];
+    }
+
+    @Override
+    public int indexOf(E element) {
+        Positions positions = index.get(element);
+        return positions == null ? -1 : positions.first();
+    }
+
+    // number of occurrences - also O(1)
+    public int count(E element) {
+        Positions positions = index.get(element);
+        return positions == null ? 0 : positions.count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkRange(index);
+        E oldValue = (E) this.elementData[index];
+        indexDelete(oldValue, index);
+        this.elementData[index] = element;
+        indexInsert(element, index);
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return index.containsKey(element);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.elementData, 0, size, null);
+        this.size = 0;
+        index.clear();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(this.elementData, this.size);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return (E) elementData[current++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(this.elementData, this.size));
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        IndexedCustomList<String> list = new IndexedCustomList<>();
+
+        System.out.println("=== Test: Add Elements ===");
+        list.add("A");
+        list.add("B");
+        list.add("A");
+        list.add(null);
+        list.add("C");
+        System.out.println(list); // Expect: [A, B, A, null, C]
+
+        System.out.println("\n=== Test: Lookups ===");
+        System.out.println("indexOf(A): " + list.indexOf("A")); // Expect: 0
+        System.out.println("indexOf(null): " + list.indexOf(null)); // Expect: 3
+        System.out.println("count(A): " + list.count("A")); // Expect: 2
+        System.out.println("contains(Z): " + list.contains("Z")); // Expect: false
+
+        System.out.println("\n=== Test: Index stays correct after shifts ===");
+        list.add(0, "X");
+        list.remove("A");
+        list.set(1, "C");
+        System.out.println(list); // Expect: [X, C, A, null, C]
+        System.out.println("indexOf(A): " + list.indexOf("A") + ", indexOf(C): " + list.indexOf("C")); // Expect: 2, 1
+
+        System.out.println("\n=== Test: Random operations against java.util.ArrayList ===");
+        IndexedCustomList<Integer> numbers = new IndexedCustomList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(3);
+        boolean same = true;
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(100);
+            switch (random.nextInt(4)) {
+                case 0 -> { numbers.add(value); expected.add(value); }
+                case 1 -> {
+                    int index = random.nextInt(numbers.size() + 1);
+                    numbers.add(index, value);
+                    expected.add(index, value);
+                }
+                case 2 -> same &= numbers.remove((Integer) value) == expected.remove((Integer) value);
+                default -> same &= numbers.indexOf(value) == expected.indexOf(value);
+            }
+        }
+        System.out.println("Same as java.util.ArrayList: " + (same && Arrays.equals(numbers.toArray(), expected.toArray()))); // Expect: true
+    }
+}
@@ -3,9 +3,17 @@ package com.collectionFramework.list.linkedList;
 import com.collectionFramework.list.listInterface.CustomList;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 class TestCustomLinkedList {
     public static void main(String[] args) {
@@ -60,6 +68,68 @@ class TestCustomLinkedList {
             System.out.println(iterator.next());
         }
 
+        list.addAll(1, List.of(150, 175));
+        System.out.println("List after adding 150 and 175 at index 1: " + list);
+
+        list.removeIf(value -> value % 100 == 0);
+        System.out.println("List after removing multiples of 100: " + list);
+
+        list.retainAll(List.of(150));
+        System.out.println("List after retaining only 150: " + list);
+
+        ListIterator<Integer> listIterator = list.listIterator();
+        while (listIterator.hasNext()) { // one pass, every change is O(1)
+            int value = listIterator.next();
+            listIterator.set(value + 1);
+            listIterator.add(value * 2);
+        }
+        System.out.println("List after set(+1) and add(*2) through listIterator(): " + list); // [151, 300]
+        while (listIterator.hasPrevious()) {
+            if (listIterator.previous() > 200) {
+                listIterator.remove();
+            }
+        }
+        System.out.println("List after removing values > 200 backwards: " + list); // [151]
+
+        try {
+            for (Integer value : list) {
+                list.add(value); // structural change outside of the iterator
+            }
+        } catch (ConcurrentModificationException e) {
+            System.out.println("Caught expected ConcurrentModificationException");
+        }
+        list.remove(1);
+
+        System.out.println("Sum using stream(): " + list.stream().mapToInt(Integer::intValue).sum());
+
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        for (int i = 1; i <= 1_000_000; i++) {
+            numbers.add(i);
+        }
+        System.out.println("Sum using parallelStream(): " + numbers.parallelStream().mapToLong(Integer::longValue).sum()); // 500000500000
+
+        long[] sum = new long[1];
+        numbers.forEach(value -> sum[0] += value);
+        System.out.println("Sum using forEach(): " + sum[0]); // 500000500000
+        sum[0] = 0;
+        numbers.forEach(999_990, 1_000_000, value -> sum[0] += value);
+        System.out.println("Sum of the last 10 using forEach(from, to): " + sum[0]); // 9999955
+
+        CustomLinkedList<Integer> queue = new CustomLinkedList<>();
+        CustomLinkedList<Integer> other = new CustomLinkedList<>();
+        for (int i = 1; i <= 3; i++) {
+            queue.add(i);
+            other.add(i * 10);
+        }
+        queue.appendAll(other); // O(1), no new nodes
+        System.out.println("After appendAll(): " + queue + ", other: " + other); // [1, 2, 3, 10, 20, 30], other: []
+        CustomLinkedList<Integer> tail = queue.splitAt(4);
+        System.out.println("After splitAt(4): " + queue + " and " + tail); // [1, 2, 3, 10] and [20, 30]
+        CustomLinkedList<Integer> middle = queue.detach(1, 3);
+        System.out.println("After detach(1, 3): " + queue + " and " + middle); // [1, 10] and [2, 3]
+        queue.splice(1, middle);
+        System.out.println("After splice(1, middle): " + queue); // [1, 2, 3, 10]
+
         System.out.println("Final List: " + list);
     }
 }
@@ -81,6 +151,7 @@ public class CustomLinkedList<E> implements CustomList<E> {
     private int size = 0;
     private Node<E> first; // head
     private Node<E> last; // tail
+    private int modCount = 0; // number of structural changes (add/remove/clear) - iterators use it to fail fast
 
     public CustomLinkedList() {
     }
@@ -97,6 +168,22 @@ public class CustomLinkedList<E> implements CustomList<E> {
 
     @Override
     public boolean add(E element) {
+        linkLast(element);
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        if (index == size) { // adding at the end
+            linkLast(element);
+        } else {
+            linkBefore(element, node(index));
+        }
+        return true;
+    }
+
+    private void linkLast(E element) {
         Node<E> newNode;
         if (first == null) { // Case 1: empty list
             newNode = new Node<>(null, element, null);
@@ -107,20 +194,12 @@ public class CustomLinkedList<E> implements CustomList<E> {
         }
         last = newNode;
         size++;
-        return true;
+        modCount++;
     }
 
-    @Override
-    public boolean add(int index, E element) {
-        checkRangeForAdd(index);
-        if (index == size) { // adding at the end
-            return add(element);
-        }
-
-        Node<E> newNode;
-        Node<E> succ = node(index);
+    private void linkBefore(E element, Node<E> succ) {
         Node<E> pred = succ.prev;
-        newNode = new Node<>(pred, element, succ); // linking new node with predecessor and successor
+        Node<E> newNode = new Node<>(pred, element, succ); // linking new node with predecessor and successor
         succ.prev = newNode;
         if (pred == null) { // adding at the beginning
             first = newNode;
@@ -128,7 +207,7 @@ public class CustomLinkedList<E> implements CustomList<E> {
             pred.next = newNode;
         }
         size++;
-        return true;
+        modCount++;
     }
 
     private void checkRangeForAdd(int index) {
@@ -183,9 +262,177 @@ public class CustomLinkedList<E> implements CustomList<E> {
 
         x.item = null;
         size--;
+        modCount++;
         return element;
     }
 
+    // Bulk operations
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        return addAllFromArray(index, elements.toArray());
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> elements) {
+        return addAllFromArray(index, elements.toArray());
+    }
+
+    // finds the position only once with node(index), then links the new nodes one after another
+    @SuppressWarnings("unchecked")
+    private boolean addAllFromArray(int index, Object[] newElements) {
+        checkRangeForAdd(index);
+        if (newElements.length == 0) {
+            return false;
+        }
+
+        Node<E> succ = (index == size) ? null : node(index);
+        Node<E> pred = (succ == null) ? last : succ.prev;
+
+        for (Object element : newElements) {
+            Node<E> newNode = new Node<>(pred, (E) element, null);
+            if (pred == null) { // adding at the beginning
+                first = newNode;
+            } else {
+                pred.next = newNode;
+            }
+            pred = newNode;
+        }
+
+        if (succ == null) { // added at the end
+            last = pred;
+        } else {
+            pred.next = succ;
+            succ.prev = pred;
+        }
+        size += newElements.length;
+        modCount++;
+        return true;
+    }
+
+    // single traversal - every matching node is unlinked while walking, no node(index) lookups
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = false;
+        for (Node<E> x = first; x != null; ) {
+            Node<E> next = x.next; // unlink() clears x.next, so remember it first
+            if (filter.test(x.item)) {
+                unlink(x);
+                removed = true;
+            }
+            x = next;
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        return removeIf(elements::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    /*
+     * Splice / split - whole node chains are relinked, nothing is copied and no Node is allocated.
+     *
+     *   appendAll(other)      O(1)  - other's chain is hung after 'last', other becomes empty
+     *   splice(index, other)  O(min(index, size - index)) to find the position, the linking itself is O(1)
+     *   splitAt(index)        same walk, returns [index, size) as a new list, this list keeps [0, index)
+     *   detach(from, to)      walks to both ends of the range, returns [from, to) as a new list
+     *
+     * Stealing the chain is safe for CustomLinkedList<? extends E>, because 'other' is empty afterwards -
+     * nobody can add an element of the wrong type through it to the shared nodes.
+     * */
+
+    public void appendAll(CustomLinkedList<? extends E> other) {
+        splice(size, other);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void splice(int index, CustomLinkedList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("can not splice a list into itself");
+        }
+        checkRangeForAdd(index);
+        if (other.size == 0) {
+            return;
+        }
+        Node<E> otherFirst = (Node<E>) other.first;
+        Node<E> otherLast = (Node<E>) other.last;
+        int otherSize = other.size;
+        other.first = null;
+        other.last = null;
+        other.size = 0;
+        other.modCount++;
+
+        Node<E> succ = (index == size) ? null : node(index);
+        Node<E> pred = (succ == null) ? last : succ.prev;
+        otherFirst.prev = pred;
+        if (pred == null) { // spliced at the beginning
+            first = otherFirst;
+        } else {
+            pred.next = otherFirst;
+        }
+        otherLast.next = succ;
+        if (succ == null) { // spliced at the end
+            last = otherLast;
+        } else {
+            succ.prev = otherLast;
+        }
+        size += otherSize;
+        modCount++;
+    }
+
+    public CustomLinkedList<E> splitAt(int index) {
+        checkRangeForAdd(index);
+        return detach(index, size);
+    }
+
+    // removes the range [from, to) and returns it as a new list (the nodes move, they are not copied)
+    public CustomLinkedList<E> detach(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Illegal range: [" + from + ", " + to + ")");
+        }
+        CustomLinkedList<E> detached = new CustomLinkedList<>();
+        if (from == to) {
+            return detached;
+        }
+        Node<E> head = node(from);
+        Node<E> tail = head;
+        if (to - 1 - from <= Math.min(to - 1, size - to)) { // walk on from 'head' or from the nearer end, whichever is shorter
+            for (int i = from; i < to - 1; i++) {
+                tail = tail.next;
+            }
+        } else {
+            tail = node(to - 1);
+        }
+
+        Node<E> pred = head.prev;
+        Node<E> succ = tail.next;
+        if (pred == null) {
+            first = succ;
+        } else {
+            pred.next = succ;
+        }
+        if (succ == null) {
+            last = pred;
+        } else {
+            succ.prev = pred;
+        }
+        head.prev = null;
+        tail.next = null;
+        size -= to - from;
+        modCount++;
+
+        detached.first = head;
+        detached.last = tail;
+        detached.size = to - from;
+        return detached;
+    }
+
     private Node<E> node(int index) { // returns the node at a specific index - This method helps a lot in other methods
         Node<E> x;
         if (index < (size/2)) {
@@ -245,6 +492,7 @@ public class CustomLinkedList<E> implements CustomList<E> {
         }
         first = last = null;
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -259,23 +507,247 @@ public class CustomLinkedList<E> implements CustomList<E> {
 
     @Override
     public Iterator<E> iterator() {
-        return new Iterator<E>() {
-            private Node<E> current = first;
+        return new CustomListIterator(0);
+    }
 
-            @Override
-            public boolean hasNext() {
-                return current != null;
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        checkRangeForAdd(index);
+        return new CustomListIterator(index);
+    }
+
+    // Internal iteration - follows the next links directly, no iterator object. Fails fast like the iterator.
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Node<E> x = first; x != null && modCount == expectedModCount; x = x.next) {
+            action.accept(x.item);
+        }
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Illegal range: [" + from + ", " + to + ")");
+        }
+        Objects.requireNonNull(action);
+        if (from == to) {
+            return;
+        }
+        int expectedModCount = modCount;
+        Node<E> x = node(from); // walks from the nearer end
+        for (int i = from; i < to && modCount == expectedModCount; i++, x = x.next) {
+            action.accept(x.item);
+        }
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /*
+     * Custom ListIterator - a cursor between two nodes.
+     *
+     *   lastReturned → node returned by the last next()/previous(), used by remove() and set()
+     *   next         → node which next() will return (null when the cursor is at the end)
+     *
+     * add/remove/set work directly on these nodes with linkBefore()/linkLast()/unlink(), so they are O(1) -
+     * no node(index) walk like add(index, e)/remove(index)/set(index, e) do.
+     *
+     * Fail fast: if the list is changed structurally by anything else than this iterator,
+     * the next call throws ConcurrentModificationException instead of walking broken links.
+     * */
+    private class CustomListIterator implements ListIterator<E> {
+        private Node<E> lastReturned;
+        private Node<E> next;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        CustomListIterator(int index) {
+            next = (index == size) ? null : node(index);
+            nextIndex = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            lastReturned = next;
+            next = next.next; // Important to move to next node!
+            nextIndex++;
+            return lastReturned.item;
+        }
+
+        // fast path: walks the links in one loop, checks for modification once per element only
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            while (modCount == expectedModCount && nextIndex < size) {
+                action.accept(next.item);
+                lastReturned = next;
+                next = next.next;
+                nextIndex++;
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (!hasPrevious())
+                throw new NoSuchElementException();
+            next = (next == null) ? last : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.item;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            Node<E> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (next == lastReturned) { // removed after previous() - the cursor stays in front of lastNext
+                next = lastNext;
+            } else { // removed after next() - one element less in front of the cursor
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount++;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.item = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            lastReturned = null;
+            if (next == null) {
+                linkLast(element);
+            } else {
+                linkBefore(element, next);
+            }
+            nextIndex++;
+            expectedModCount++;
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new CustomSpliterator();
+    }
+
+    /*
+     * Custom Spliterator - batch-array splitting
+     * A linked list can not be cut in the middle without walking to it, so trySplit() copies the next
+     * 'batch' elements into an array and hands that array off as a new (array based) spliterator.
+     * The batch grows by BATCH_UNIT on every split, so big lists produce big enough tasks for fork-join.
+     * */
+    private class CustomSpliterator implements Spliterator<E> {
+
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<E> current;
+        private int remaining = -1; // -1 means "not bound yet", it is bound on first use
+        private int batch;
+
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = first;
+                remaining = size;
             }
+            return remaining;
+        }
 
-            @Override
-            public E next() {
-                if (current == null)
-                    throw new NoSuchElementException();
-                E data = current.item;
-                current = current.next; // Important to move to next node!
-                return data;
+        @Override
+        public Spliterator<E> trySplit() {
+            int left = getRemaining();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), left);
+            Object[] array = new Object[n];
+            Node<E> x = current;
+            int j = 0;
+            do {
+                array[j++] = x.item;
+            } while ((x = x.next) != null && j < n);
+            current = x;
+            batch = j;
+            remaining = left - j;
+            return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (getRemaining() > 0 && current != null) {
+                E item = current.item;
+                current = current.next;
+                remaining--;
+                action.accept(item);
+                return true;
             }
-        };
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int left = getRemaining();
+            Node<E> x = current;
+            current = null;
+            remaining = 0;
+            while (x != null && left-- > 0) {
+                E item = x.item;
+                x = x.next;
+                action.accept(item);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 
     // toString method for linked list
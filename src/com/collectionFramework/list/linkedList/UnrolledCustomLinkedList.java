@@ -0,0 +1,443 @@
+package com.collectionFramework.list.linkedList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/*
+ * Unrolled Linked List - a linked list where every node holds a small array of elements instead of one element.
+ *
+ *   CustomLinkedList:          [a] <-> [b] <-> [c] <-> [d] <-> [e] ...     one Node (3 references + header) per element
+ *   UnrolledCustomLinkedList:  [a b c d ... ] <-> [e f g ... ] <-> ...      one Node per 'nodeCapacity' elements
+ *
+ * Why?
+ *   - Much less memory per element (the node overhead is shared by up to 32/64 elements).
+ *   - Scans (indexOf, toArray, toString) read contiguous arrays, so the CPU cache works for us
+ *     instead of jumping around the heap for every element.
+ *
+ * Rules which keep it fast:
+ *   - A full node is split into two half-full nodes on insert.
+ *   - A node which drops below half is refilled from (or merged with) its next node on remove.
+ *   So every node except the last one is at least half full and head/tail operations stay O(1)
+ *   (at most one small array shift of nodeCapacity elements).
+ * */
+
+public class UnrolledCustomLinkedList<E> implements CustomList<E> {
+
+    private static class Node {
+        Object[] items;
+        int count;
+        Node next;
+        Node prev;
+
+        Node(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+    private int size = 0;
+    private Node first; // head
+    private Node last; // tail
+
+    public UnrolledCustomLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    public UnrolledCustomLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 4) {
+            throw new IllegalArgumentException("illegal node capacity:" + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    // links a new empty node after 'pred' (or as the first node when pred is null)
+    private Node linkAfter(Node pred) {
+        Node newNode = new Node(nodeCapacity);
+        Node succ = (pred == null) ? first : pred.next;
+        newNode.prev = pred;
+        newNode.next = succ;
+        if (pred == null) {
+            first = newNode;
+        } else {
+            pred.next = newNode;
+        }
+        if (succ == null) {
+            last = newNode;
+        } else {
+            succ.prev = newNode;
+        }
+        return newNode;
+    }
+
+    private void unlinkNode(Node x) {
+        Node prev = x.prev;
+        Node next = x.next;
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            last = prev;
+        } else {
+            next.prev = prev;
+        }
+        x.prev = x.next = null;
+        x.items = null;
+    }
+
+    // the node holding an index and the position inside it - returned instead of kept in a field,
+    // so reads (get) do not write shared state and concurrent readers can not see each other's result
+    private record Position(Node node, int offset) {}
+
+    // walks node by node (not element by element), from the closer end
+    private Position node(int index) {
+        if (index < (size / 2)) {
+            int start = 0;
+            Node x = first;
+            while (index >= start + x.count) {
+                start += x.count;
+                x = x.next;
+            }
+            return new Position(x, index - start);
+        } else {
+            int end = size; // index after the last element of x
+            Node x = last;
+            while (index < end - x.count) {
+                end -= x.count;
+                x = x.prev;
+            }
+            return new Position(x, index - (end - x.count));
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (last == null || last.count == nodeCapacity) {
+            linkAfter(last);
+        }
+        last.items[last.count++] = element;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        if (index == size) { // adding at the end
+            return add(element);
+        }
+        Position position = node(index);
+        insertIntoNode(position.node(), position.offset(), element);
+        size++;
+        return true;
+    }
+
+    private void insertIntoNode(Node x, int offset, Object element) {
+        if (x.count == nodeCapacity) { // full - split: the upper half moves to a new node
+            Node newNode = linkAfter(x);
+            int half = nodeCapacity / 2;
+            int moved = x.count - half;
+            System.arraycopy(x.items, half, newNode.items, 0, moved);
+            Arrays.fill(x.items, half, x.count, null);
+            newNode.count = moved;
+            x.count = half;
+            if (offset > half) {
+                x = newNode;
+                offset -= half;
+            }
+        }
+        System.arraycopy(x.items, offset, x.items, offset + 1, x.count - offset); // shift inside the node only
+        x.items[offset] = element;
+        x.count++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeFromNode(Node x, int offset) {
+        E element = (E) x.items[offset];
+        System.arraycopy(x.items, offset + 1, x.items, offset, x.count - offset - 1);
+        x.items[--x.count] = null;
+        size--;
+
+        if (x.count == 0) {
+            unlinkNode(x);
+        } else if (x.count < nodeCapacity / 2 && x.next != null) {
+            refill(x);
+        }
+        return element;
+    }
+
+    // node x is less than half full - merge the next node into it, or take elements over from the next node
+    private void refill(Node x) {
+        Node next = x.next;
+        if (x.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.items, 0, x.items, x.count, next.count);
+            x.count += next.count;
+            unlinkNode(next);
+        } else {
+            int moved = (next.count - x.count) / 2; // balance both nodes
+            System.arraycopy(next.items, 0, x.items, x.count, moved);
+            System.arraycopy(next.items, moved, next.items, 0, next.count - moved);
+            Arrays.fill(next.items, next.count - moved, next.count, null);
+            x.count += moved;
+            next.count -= moved;
+        }
+    }
+
+    @Override
+    public boolean remove(E element) { // remove first occurrences
+        for (Node x = first; x != null; x = x.next) {
+            for (int i = 0; i < x.count; i++) {
+                if (element == null ? x.items[i] == null : element.equals(x.items[i])) { // handling null value element to avoid NullPointerException
+                    removeFromNode(x, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkRange(index);
+        Position position = node(index);
+        return removeFromNode(position.node(), position.offset());
+    }
+
+    // single pass: every node is compacted in place, empty nodes are unlinked, and a previous node which dropped
+    // below half is refilled from (or merged with) the compacted node - both are already filtered, so every node
+    // except the last one stays at least half full, like after remove(int).
+    // If the filter throws, the node being compacted is fixed up first, so the list stays consistent.
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        int oldSize = size;
+        for (Node x = first; x != null; ) {
+            Node next = x.next;
+            int count = x.count;
+            int write = 0;
+            int read = 0;
+            try {
+                for (; read < count; read++) {
+                    Object element = x.items[read];
+                    if (!filter.test((E) element)) {
+                        x.items[write++] = element;
+                    }
+                }
+            } finally {
+                if (read < count) { // filter threw an exception - keep the elements of this node which were not visited yet
+                    System.arraycopy(x.items, read, x.items, write, count - read);
+                    write += count - read;
+                }
+                Arrays.fill(x.items, write, count, null);
+                size -= count - write;
+                x.count = write;
+                Node prev = x.prev;
+                if (write == 0) {
+                    unlinkNode(x);
+                } else if (prev != null && prev.count < nodeCapacity / 2) {
+                    refill(prev); // prev.next == x
+                }
+                if (read < count) { // the nodes after x were not visited - the last compacted node may be small
+                    Node kept = x.items != null ? x : prev;
+                    if (kept != null && kept.count < nodeCapacity / 2 && kept.next != null) {
+                        refill(kept);
+                    }
+                }
+            }
+            x = next;
+        }
+        return size != oldSize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        Position position = node(index);
+        return (E) position.node().items[position.offset()];
+    }
+
+    @Override
+    public int indexOf(E element) {
+        int index = 0;
+        for (Node x = first; x != null; x = x.next) {
+            Object[] items = x.items;
+            for (int i = 0, n = x.count; i < n; i++) {
+                if (element == null ? items[i] == null : element.equals(items[i])) {
+                    return index + i;
+                }
+            }
+            index += x.count;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkRange(index);
+        Position position = node(index);
+        Object[] items = position.node().items;
+        E oldValue = (E) items[position.offset()];
+        items[position.offset()] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (Node x = first; x != null; ) {
+            Node next = x.next;
+            x.items = null;
+            x.next = null;
+            x.prev = null;
+            x = next;
+        }
+        first = last = null;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (Node x = first; x != null; x = x.next) {
+            System.arraycopy(x.items, 0, result, i, x.count); // one bulk copy per node
+            i += x.count;
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node current = first;
+            private int offset = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current == null)
+                    throw new NoSuchElementException();
+                E data = (E) current.items[offset++];
+                if (offset == current.count) { // end of this node, move to the next one
+                    current = current.next;
+                    offset = 0;
+                }
+                return data;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (Node x = first; x != null; x = x.next) {
+            for (int i = 0; i < x.count; i++) {
+                sb.append(x.items[i]);
+                if (i < x.count - 1 || x.next != null) {
+                    sb.append(", ");
+                }
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        UnrolledCustomLinkedList<Integer> list = new UnrolledCustomLinkedList<>(4); // tiny nodes to see splits/merges
+        for (int i = 1; i <= 10; i++) {
+            list.add(i * 10);
+        }
+        System.out.println("List after adding elements: " + list);
+
+        list.add(0, 5);
+        list.add(3, 25);
+        System.out.println("List after adding 5 at index 0 and 25 at index 3: " + list);
+
+        list.remove((Integer) 50);
+        list.remove(0);
+        System.out.println("List after removing element 50 and index 0: " + list);
+
+        System.out.println("Element at index 4: " + list.get(4));
+        System.out.println("Index of element 90: " + list.indexOf(90));
+
+        list.removeIf(value -> value % 20 == 0);
+        System.out.println("List after removing multiples of 20: " + list);
+
+        System.out.println("\nComparing with CustomLinkedList on random operations:");
+        UnrolledCustomLinkedList<Integer> unrolled = new UnrolledCustomLinkedList<>();
+        CustomLinkedList<Integer> linked = new CustomLinkedList<>();
+        java.util.Random random = new java.util.Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            if (unrolled.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(unrolled.size() + 1);
+                unrolled.add(index, i);
+                linked.add(index, i);
+            } else {
+                int index = random.nextInt(unrolled.size());
+                unrolled.remove(index);
+                linked.remove(index);
+            }
+        }
+        System.out.println("Same content: " + Arrays.equals(unrolled.toArray(), linked.toArray())); // Expect: true
+
+        System.out.println("\nScan speed - indexOf(missing element), best of 10:");
+        for (int i = 0; i < 1_000_000; i++) {
+            unrolled.add(i);
+            linked.add(i);
+        }
+        System.out.printf("CustomLinkedList:         %6.2f ms%n", bestScanMillis(linked));
+        System.out.printf("UnrolledCustomLinkedList: %6.2f ms%n", bestScanMillis(unrolled));
+    }
+
+    private static double bestScanMillis(CustomList<Integer> list) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            list.indexOf(-1);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+}
@@ -1,5 +1,17 @@
 package com.collectionFramework.list.listInterface;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface CustomList<E> extends Iterable<E>{
     boolean isEmpty();
     int size();
@@ -13,4 +25,102 @@ public interface CustomList<E> extends Iterable<E>{
     boolean contains(E element);
     void clear();
     Object[] toArray();
+
+    // Bulk operations
+    // The default versions only use the methods above, so every implementation gets them for free.
+    // CustomArrayList and CustomLinkedList override them with single-pass versions.
+
+    default boolean addAll(int index, Collection<? extends E> elements) {
+        for (E element : elements) {
+            add(index++, element);
+        }
+        return !elements.isEmpty();
+    }
+
+    default boolean addAll(int index, CustomList<? extends E> elements) {
+        for (E element : elements) {
+            add(index++, element);
+        }
+        return !elements.isEmpty();
+    }
+
+    default boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = false;
+        for (int i = size() - 1; i >= 0; i--) { // backwards, so removing does not shift the elements still to visit
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    default boolean removeAll(Collection<?> elements) {
+        return removeIf(elements::contains);
+    }
+
+    default boolean retainAll(Collection<?> elements) {
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    // Sorting
+    // The default copies the elements into an array, sorts it (stable) and writes them back through one ListIterator,
+    // so a linked list is not walked again for every set(index). CustomArrayList sorts its own array in place.
+
+    @SuppressWarnings("unchecked")
+    default void sort(Comparator<? super E> comparator) {
+        Object[] elements = toArray();
+        Arrays.sort(elements, (Comparator<Object>) comparator);
+        ListIterator<E> iterator = listIterator();
+        for (Object element : elements) {
+            iterator.next();
+            iterator.set((E) element);
+        }
+    }
+
+    // Internal iteration
+    // forEach over a range [from, to). The default walks one ListIterator, CustomArrayList and CustomLinkedList
+    // override it (and Iterable.forEach) with plain loops over their storage - no iterator object at all.
+
+    default void forEach(int from, int to, Consumer<? super E> action) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Illegal range: [" + from + ", " + to + ")");
+        }
+        Objects.requireNonNull(action);
+        ListIterator<E> iterator = listIterator(from);
+        for (int i = from; i < to; i++) {
+            action.accept(iterator.next());
+        }
+    }
+
+    // ListIterator
+    // The default one moves by index. CustomLinkedList overrides it with an O(1) node cursor.
+
+    default ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+        return new IndexedListIterator<>(this, index);
+    }
+
+    default ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    // Streams
+    // Iterable.spliterator() does not know the size, so the stream is unsized and splits badly in parallel.
+    // This default at least reports the size; CustomArrayList and CustomLinkedList return real splitting spliterators.
+
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
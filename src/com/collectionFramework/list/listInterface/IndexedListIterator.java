@@ -0,0 +1,80 @@
+package com.collectionFramework.list.listInterface;
+
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Default ListIterator used by CustomList.listIterator(int).
+ * It only works with indexes (get/set/add/remove), so it is O(1) per step for array based lists.
+ * Linked lists should override listIterator(int) with a node cursor - otherwise every step walks the list again.
+ * */
+
+class IndexedListIterator<E> implements ListIterator<E> {
+
+    private final CustomList<E> list;
+    private int cursor; // index of the element returned by the next call to next()
+    private int lastReturned = -1; // index of the element returned by the last next()/previous(), -1 if none
+
+    IndexedListIterator(CustomList<E> list, int index) {
+        this.list = list;
+        this.cursor = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        lastReturned = cursor++;
+        return list.get(lastReturned);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return cursor > 0;
+    }
+
+    @Override
+    public E previous() {
+        if (!hasPrevious())
+            throw new NoSuchElementException();
+        lastReturned = --cursor;
+        return list.get(lastReturned);
+    }
+
+    @Override
+    public int nextIndex() {
+        return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+        return cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturned < 0)
+            throw new IllegalStateException();
+        list.remove(lastReturned);
+        cursor = lastReturned; // after next() the cursor moves back, after previous() it stays
+        lastReturned = -1;
+    }
+
+    @Override
+    public void set(E element) {
+        if (lastReturned < 0)
+            throw new IllegalStateException();
+        list.set(lastReturned, element);
+    }
+
+    @Override
+    public void add(E element) {
+        list.add(cursor++, element);
+        lastReturned = -1;
+    }
+}
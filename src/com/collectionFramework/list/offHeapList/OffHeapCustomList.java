@@ -0,0 +1,399 @@
+package com.collectionFramework.list.offHeapList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Off-heap version of CustomArrayList for fixed-width records.
+ *
+ * Elements are not stored as objects at all - the RecordCodec writes them as bytes into a MemorySegment
+ * which lives outside the Java heap, so the garbage collector never has to scan or move them.
+ *
+ * Important points:
+ *   - The memory is NOT freed by GC. Always call close() (or use try-with-resources).
+ *   - get()/iterator() decode a new object for every call. For big scans use cursor() -
+ *     the cursor is a flyweight: one object which moves over the records and reads fields in place.
+ *   - null can not be stored (there is no bytes representation for it), add/set throw NullPointerException.
+ *   - indexOf()/contains()/remove(E) compare the encoded bytes of the records, not equals().
+ *
+ * Growth is the same as CustomArrayList.ensureCapacity() (1.5x), but the old records are copied
+ * directly from the old segment into the new segment - nothing goes through the heap.
+ * */
+
+public class OffHeapCustomList<E> implements CustomList<E>, AutoCloseable {
+
+    // Fields
+    private final RecordCodec<E> codec;
+    private final long recordSize;
+    private Arena arena; // owns 'segment', replaced on every growth
+    private MemorySegment segment;
+    private int capacity;
+    private int size = 0;
+    private static final int INITIAL_CAPACITY = 10;
+    private static final long ALIGNMENT = 8;
+
+    // Constructors
+    public OffHeapCustomList(RecordCodec<E> codec) {
+        this(codec, INITIAL_CAPACITY);
+    }
+
+    public OffHeapCustomList(RecordCodec<E> codec, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("illegal Capacity:" + initialCapacity);
+        }
+        if (codec.byteSize() <= 0) {
+            throw new IllegalArgumentException("illegal record size:" + codec.byteSize());
+        }
+        this.codec = codec;
+        this.recordSize = codec.byteSize();
+        this.arena = Arena.ofShared(); // shared, so other threads (e.g. parallel streams) can read too
+        this.segment = arena.allocate(recordSize * initialCapacity, ALIGNMENT);
+        this.capacity = initialCapacity;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    private void checkOpen() {
+        if (segment == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void ensureCapacity(int needCapacity) {
+        checkOpen();
+        if (needCapacity > capacity) {
+            // compute new capacity
+            int newCapacity = capacity + (capacity / 2);
+
+            if (newCapacity < needCapacity) { // if still too small, then
+                newCapacity = needCapacity;
+            }
+
+            Arena newArena = Arena.ofShared();
+            MemorySegment newSegment = newArena.allocate(recordSize * newCapacity, ALIGNMENT);
+            MemorySegment.copy(segment, 0, newSegment, 0, recordSize * size); // off-heap to off-heap copy
+
+            arena.close(); // frees the old memory immediately
+            this.arena = newArena;
+            this.segment = newSegment;
+            this.capacity = newCapacity;
+        }
+    }
+
+    private long offsetOf(int index) {
+        return index * recordSize;
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    private void checkNotNull(E element) {
+        if (element == null) {
+            throw new NullPointerException("null can not be stored off-heap");
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        checkNotNull(element);
+        ensureCapacity(this.size + 1);
+        codec.encode(element, segment, offsetOf(size));
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        checkNotNull(element);
+        ensureCapacity(this.size + 1);
+        // shift records to the right by 1 position (copy() handles the overlapping ranges)
+        MemorySegment.copy(segment, offsetOf(index), segment, offsetOf(index + 1), offsetOf(size - index));
+        codec.encode(element, segment, offsetOf(index));
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkOpen();
+        checkRange(index);
+        E element = codec.decode(segment, offsetOf(index));
+        int movedNumber = size - index - 1;
+        if (movedNumber > 0) {
+            MemorySegment.copy(segment, offsetOf(index + 1), segment, offsetOf(index), offsetOf(movedNumber));
+        }
+        this.size--;
+        return element;
+    }
+
+    @Override
+    public E get(int index) {
+        checkOpen();
+        checkRange(index);
+        return codec.decode(segment, offsetOf(index));
+    }
+
+    // encodes the element once and then compares raw bytes - no decoding, no objects.
+    // The encoded key lives in its own confined arena per call: a scratch segment shared by the list would be
+    // overwritten by a second thread calling indexOf() (e.g. contains() from a parallel stream) at the same time.
+    @Override
+    public int indexOf(E element) {
+        checkOpen();
+        if (element == null) {
+            return -1; // null is never stored
+        }
+        try (Arena keyArena = Arena.ofConfined()) {
+            MemorySegment key = keyArena.allocate(recordSize, ALIGNMENT);
+            codec.encode(element, key, 0);
+            for (int i = 0; i < this.size; i++) {
+                long offset = offsetOf(i);
+                if (MemorySegment.mismatch(segment, offset, offset + recordSize, key, 0, recordSize) == -1) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkOpen();
+        checkRange(index);
+        checkNotNull(element);
+        E oldValue = codec.decode(segment, offsetOf(index));
+        codec.encode(element, segment, offsetOf(index));
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        this.size = 0; // memory stays allocated for reuse, close() frees it
+    }
+
+    @Override
+    public Object[] toArray() {
+        checkOpen();
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = codec.decode(segment, offsetOf(i));
+        }
+        return result;
+    }
+
+    // frees the off-heap memory, the list can not be used afterwards
+    @Override
+    public void close() {
+        if (segment != null) {
+            arena.close();
+            segment = null;
+            size = 0;
+            capacity = 0;
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return codec.decode(segment, offsetOf(current++));
+            }
+        };
+    }
+
+    public Cursor cursor() {
+        checkOpen();
+        return new Cursor();
+    }
+
+    @Override
+    public String toString() {
+        if (segment == null) {
+            return "[closed]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(codec.decode(segment, offsetOf(i)));
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /*
+     * Flyweight Cursor
+     * One cursor object is reused for the whole scan - next() only moves an offset.
+     * Fields are read/written in place with their offset inside the record (the same offsets the codec uses),
+     * so scanning millions of records creates no objects at all.
+     * Unaligned layouts are used, so records of any size work.
+     * */
+    public class Cursor {
+
+        private int index = -1;
+        private long offset = -recordSize;
+
+        public boolean next() {
+            if (index + 1 >= size) {
+                return false;
+            }
+            index++;
+            offset += recordSize;
+            return true;
+        }
+
+        public Cursor moveTo(int index) {
+            checkRange(index);
+            this.index = index;
+            this.offset = offsetOf(index);
+            return this;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public int getInt(long fieldOffset) {
+            return segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset + fieldOffset);
+        }
+
+        public long getLong(long fieldOffset) {
+            return segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset + fieldOffset);
+        }
+
+        public double getDouble(long fieldOffset) {
+            return segment.get(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset + fieldOffset);
+        }
+
+        public void setInt(long fieldOffset, int value) {
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset + fieldOffset, value);
+        }
+
+        public void setLong(long fieldOffset, long value) {
+            segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset + fieldOffset, value);
+        }
+
+        public void setDouble(long fieldOffset, double value) {
+            segment.set(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset + fieldOffset, value);
+        }
+
+        // builds an object for the current record - only when really needed
+        public E decode() {
+            return codec.decode(segment, offset);
+        }
+    }
+
+    // TESTING
+    record Point(int x, int y) {}
+
+    // x at offset 0, y at offset 4 - 8 bytes per record
+    static class PointCodec implements RecordCodec<Point> {
+        static final long X = 0;
+        static final long Y = 4;
+
+        @Override
+        public long byteSize() {
+            return 8;
+        }
+
+        @Override
+        public void encode(Point point, MemorySegment segment, long offset) {
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset + X, point.x());
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset + Y, point.y());
+        }
+
+        @Override
+        public Point decode(MemorySegment segment, long offset) {
+            return new Point(segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset + X),
+                    segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset + Y));
+        }
+    }
+
+    public static void main(String[] args) {
+        try (OffHeapCustomList<Point> list = new OffHeapCustomList<>(new PointCodec())) {
+
+            System.out.println("=== Test: Add Elements ===");
+            list.add(new Point(1, 2));
+            list.add(new Point(3, 4));
+            list.add(0, new Point(0, 0));
+            System.out.println(list); // Expect: [Point[x=0, y=0], Point[x=1, y=2], Point[x=3, y=4]]
+
+            System.out.println("\n=== Test: Lookup / Remove ===");
+            System.out.println(list.indexOf(new Point(3, 4))); // Expect: 2
+            list.remove(new Point(1, 2));
+            System.out.println(list); // Expect: [Point[x=0, y=0], Point[x=3, y=4]]
+
+            System.out.println("\n=== Test: Auto Resize ===");
+            for (int i = 0; i < 1_000_000; i++) {
+                list.add(new Point(i, -i));
+            }
+            System.out.println("size: " + list.size() + ", capacity: " + list.capacity());
+
+            System.out.println("\n=== Test: Cursor Scan (no objects) ===");
+            long sumX = 0;
+            OffHeapCustomList<Point>.Cursor cursor = list.cursor();
+            while (cursor.next()) {
+                sumX += cursor.getInt(PointCodec.X);
+            }
+            System.out.println("sum of x: " + sumX); // Expect: 499999500003
+
+            cursor.moveTo(0).setInt(PointCodec.Y, 42); // update in place
+            System.out.println(list.get(0)); // Expect: Point[x=0, y=42]
+        } // close() frees the memory here
+    }
+}
@@ -0,0 +1,16 @@
+package com.collectionFramework.list.offHeapList;
+
+import java.lang.foreign.MemorySegment;
+
+/*
+ * Describes how one element is stored as a fixed-width record inside off-heap memory.
+ *
+ * Every record takes exactly byteSize() bytes, so record number i always starts at offset i * byteSize().
+ * encode() writes the fields of an element at 'offset', decode() builds an element back from them.
+ * */
+
+public interface RecordCodec<E> {
+    long byteSize();
+    void encode(E element, MemorySegment segment, long offset);
+    E decode(MemorySegment segment, long offset);
+}
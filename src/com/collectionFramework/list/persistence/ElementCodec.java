@@ -0,0 +1,102 @@
+package com.collectionFramework.list.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Describes how one element is written to / read from a list file (see ListFiles).
+ *
+ * encode() writes the element at the current position of 'out' (relative puts).
+ * decode() reads 'length' bytes starting at 'offset' (absolute gets), so a mapped file can be read
+ * by many threads at the same time without moving a shared position.
+ *
+ * fixedSize() >= 0 means every element takes exactly that many bytes - the file then needs no length prefixes
+ * and no offset table, element i simply starts at HEADER_SIZE + i * fixedSize(). Such codecs can not store null.
+ * */
+
+public interface ElementCodec<E> {
+
+    void encode(E element, ByteBuffer out);
+
+    E decode(ByteBuffer in, int offset, int length);
+
+    // -1 = variable size
+    default int fixedSize() {
+        return -1;
+    }
+
+    // Codecs for common element types
+
+    static ElementCodec<String> utf8() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(String element, ByteBuffer out) {
+                out.put(element.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer in, int offset, int length) {
+                byte[] bytes = new byte[length];
+                in.get(offset, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    static ElementCodec<Integer> int32() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Integer element, ByteBuffer out) {
+                out.putInt(element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer in, int offset, int length) {
+                return in.getInt(offset);
+            }
+
+            @Override
+            public int fixedSize() {
+                return Integer.BYTES;
+            }
+        };
+    }
+
+    static ElementCodec<Long> int64() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Long element, ByteBuffer out) {
+                out.putLong(element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer in, int offset, int length) {
+                return in.getLong(offset);
+            }
+
+            @Override
+            public int fixedSize() {
+                return Long.BYTES;
+            }
+        };
+    }
+
+    static ElementCodec<Double> float64() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Double element, ByteBuffer out) {
+                out.putDouble(element);
+            }
+
+            @Override
+            public Double decode(ByteBuffer in, int offset, int length) {
+                return in.getDouble(offset);
+            }
+
+            @Override
+            public int fixedSize() {
+                return Double.BYTES;
+            }
+        };
+    }
+}
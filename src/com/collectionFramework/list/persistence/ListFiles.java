@@ -0,0 +1,224 @@
+package com.collectionFramework.list.persistence;
+
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+
+/*
+ * Compact binary files for lists - a replacement for toString() dumps and Java serialization.
+ *
+ * File layout (little endian):
+ *
+ *   header   magic "CLST" | version | elementSize (-1 = variable) | count          4 ints = 16 bytes
+ *   records  fixed size:    element 0 | element 1 | ...                             count * elementSize bytes
+ *            variable size: length | bytes | length | bytes | ...                   length -1 = null
+ *   offsets  variable size only: start of every record as int                       count * 4 bytes
+ *
+ * Writing goes through a FileChannel and one reusable direct buffer - no serialization streams, no per-element objects.
+ * Loading maps the file into memory: map() returns a read-only list view which decodes an element only when it
+ * is accessed, so the startup cost depends on what is touched, not on the size of the file.
+ * The offset table makes get(index) O(1) for variable-size elements too.
+ *
+ * The primitive lists (IntCustomList, ...) use the same header with raw values, see their writeTo()/readFrom().
+ *
+ * Limit: a mapped ByteBuffer can address at most 2 GB, so bigger files are rejected.
+ * */
+
+public final class ListFiles {
+
+    public static final int HEADER_SIZE = 4 * Integer.BYTES;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int MAGIC = 0x434C5354; // "CLST"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int VARIABLE_SIZE = -1;
+
+    private ListFiles() {
+    }
+
+    // Writing
+
+    public static <E> void write(CustomList<E> list, Path file, ElementCodec<? super E> codec) throws IOException {
+        int count = list.size();
+        int elementSize = codec.fixedSize();
+        boolean fixed = elementSize >= 0;
+        int[] offsets = fixed ? null : new int[count];
+
+        try (FileChannel channel = create(file)) {
+            RecordWriter writer = new RecordWriter(channel);
+            writeHeader(writer.buffer, fixed ? elementSize : VARIABLE_SIZE, count);
+            int i = 0;
+            for (E element : list) {
+                if (i == count) {
+                    throw new ConcurrentModificationException("list changed while it was written");
+                }
+                if (!fixed) {
+                    offsets[i] = writer.checkedPosition();
+                }
+                writer.writeRecord(element, codec, fixed ? elementSize : VARIABLE_SIZE);
+                i++;
+            }
+            if (i != count) {
+                throw new ConcurrentModificationException("list changed while it was written");
+            }
+            if (!fixed) {
+                for (int offset : offsets) {
+                    if (writer.buffer.remaining() < Integer.BYTES) {
+                        writer.flush();
+                    }
+                    writer.buffer.putInt(offset);
+                }
+            }
+            writer.flush();
+            writer.checkedPosition();
+        }
+    }
+
+    // Loading
+
+    // read-only view over the mapped file - elements are decoded on access
+    public static <E> MappedCustomList<E> map(Path file, ElementCodec<E> codec) throws IOException {
+        ByteBuffer buffer = mapReadOnly(file);
+        int elementSize = codec.fixedSize() >= 0 ? codec.fixedSize() : VARIABLE_SIZE;
+        int count = readHeader(buffer, elementSize, file);
+        return new MappedCustomList<>(buffer, codec, count, elementSize);
+    }
+
+    // decodes everything into a normal (mutable) CustomArrayList
+    public static <E> CustomArrayList<E> load(Path file, ElementCodec<E> codec) throws IOException {
+        MappedCustomList<E> mapped = map(file, codec);
+        CustomArrayList<E> list = new CustomArrayList<>(mapped.size());
+        mapped.forEach(list::add);
+        return list;
+    }
+
+    // Helpers shared with the primitive lists
+
+    public static FileChannel create(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    public static ByteBuffer newBuffer() {
+        return ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+    }
+
+    // writes everything between 0 and position() and clears the buffer
+    public static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public static ByteBuffer mapReadOnly(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("list file is larger than 2 GB and can not be mapped: " + file);
+            }
+            // the mapping stays valid after the channel is closed, it is released when the buffer is garbage collected
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(BYTE_ORDER);
+        }
+    }
+
+    // fixed-size records: rejects a list whose file could not be mapped again by readFrom()/map(), before the file is created
+    public static void checkFixedSize(int elementSize, int count) throws IOException {
+        if (HEADER_SIZE + (long) count * elementSize > Integer.MAX_VALUE) {
+            throw new IOException("list file would be larger than 2 GB");
+        }
+    }
+
+    public static void writeHeader(ByteBuffer buffer, int elementSize, int count) {
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(elementSize).putInt(count);
+    }
+
+    // checks the header against the expected element size and the file length, returns the element count
+    public static int readHeader(ByteBuffer buffer, int elementSize, Path file) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("not a list file: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("unsupported list file version " + buffer.getInt(4) + ": " + file);
+        }
+        if (buffer.getInt(8) != elementSize) {
+            throw new IOException("element size " + buffer.getInt(8) + ", expected " + elementSize + ": " + file);
+        }
+        int count = buffer.getInt(12);
+        long minimumLength = HEADER_SIZE + (long) count * (elementSize >= 0 ? elementSize : Integer.BYTES);
+        if (count < 0 || buffer.limit() < minimumLength || (elementSize >= 0 && buffer.limit() != minimumLength)) {
+            throw new IOException("list file is truncated or corrupt: " + file);
+        }
+        return count;
+    }
+
+    // Keeps the channel, the buffer and the number of bytes already written together
+    private static final class RecordWriter {
+        private final FileChannel channel;
+        private ByteBuffer buffer = newBuffer();
+        private long written = 0;
+
+        RecordWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void flush() throws IOException {
+            written += buffer.position();
+            ListFiles.flush(channel, buffer);
+        }
+
+        // file position of the next byte - records are addressed by int offsets
+        int checkedPosition() throws IOException {
+            long position = written + buffer.position();
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("list file would be larger than 2 GB");
+            }
+            return (int) position;
+        }
+
+        /*
+         * The size of an encoded element is not known up front (think of UTF-8 strings),
+         * so the record is encoded straight into the buffer and the length is filled in afterwards.
+         * If it does not fit, the buffer is flushed (or doubled if the element alone is bigger) and encoded again.
+         * */
+        <E> void writeRecord(E element, ElementCodec<? super E> codec, int elementSize) throws IOException {
+            while (true) {
+                int start = buffer.position();
+                try {
+                    if (elementSize >= 0) {
+                        if (element == null) {
+                            throw new NullPointerException("a fixed size codec can not store null");
+                        }
+                        codec.encode(element, buffer);
+                        if (buffer.position() - start != elementSize) {
+                            throw new IllegalStateException("codec wrote " + (buffer.position() - start) + " bytes instead of " + elementSize);
+                        }
+                    } else {
+                        buffer.putInt(-1); // length placeholder, -1 stays for null
+                        if (element != null) {
+                            codec.encode(element, buffer);
+                            buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+                        }
+                    }
+                    return;
+                } catch (BufferOverflowException e) {
+                    buffer.position(start);
+                    if (start > 0) {
+                        flush();
+                    } else {
+                        buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2).order(BYTE_ORDER);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.collectionFramework.list.persistence;
+
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/*
+ * Read-only CustomList over a memory-mapped list file (created by ListFiles.map()).
+ *
+ * Nothing is decoded up front - get(index) finds the record (index * size, or through the offset table)
+ * and decodes only that element. The operating system reads only the pages which are touched.
+ * All reads are absolute, so one instance can be shared by many reader threads.
+ *
+ * The CustomList mutators throw UnsupportedOperationException - use ListFiles.load() for a mutable copy.
+ * */
+
+public final class MappedCustomList<E> implements CustomList<E> {
+
+    private final ByteBuffer buffer;
+    private final ElementCodec<E> codec;
+    private final int size;
+    private final int elementSize; // -1 = variable size records with an offset table
+    private final int offsetTable;
+
+    MappedCustomList(ByteBuffer buffer, ElementCodec<E> codec, int size, int elementSize) {
+        this.buffer = buffer;
+        this.codec = codec;
+        this.size = size;
+        this.elementSize = elementSize;
+        this.offsetTable = buffer.limit() - size * Integer.BYTES;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    private E decode(int index) {
+        if (elementSize >= 0) {
+            return codec.decode(buffer, ListFiles.HEADER_SIZE + index * elementSize, elementSize);
+        }
+        int offset = buffer.getInt(offsetTable + index * Integer.BYTES);
+        int length = buffer.getInt(offset);
+        return length < 0 ? null : codec.decode(buffer, offset + Integer.BYTES, length);
+    }
+
+    @Override
+    public E get(int index) {
+        checkRange(index);
+        return decode(index);
+    }
+
+    @Override
+    public int indexOf(E element) {
+        for (int i = 0; i < size; i++) {
+            E value = decode(i);
+            if (element == null ? value == null : element.equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = decode(i);
+        }
+        return result;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(decode(i));
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return decode(current++);
+            }
+        };
+    }
+
+    // Mutators - not supported
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("MappedCustomList is read-only - use ListFiles.load() for a mutable copy");
+    }
+
+    @Override
+    public boolean add(E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean remove(E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("lists");
+
+        System.out.println("=== Test: Strings (variable size, with null) ===");
+        CustomArrayList<String> names = new CustomArrayList<>();
+        names.add("Alice");
+        names.add(null);
+        names.add("Zoë");
+        names.add("");
+        Path namesFile = directory.resolve("names.bin");
+        ListFiles.write(names, namesFile, ElementCodec.utf8());
+        MappedCustomList<String> mappedNames = ListFiles.map(namesFile, ElementCodec.utf8());
+        System.out.println(mappedNames + " " + Files.size(namesFile) + " bytes"); // Expect: [Alice, null, Zoë, ] 57 bytes
+        System.out.println(mappedNames.get(2) + " at index " + mappedNames.indexOf("Zoë")); // Expect: Zoë at index 2
+
+        System.out.println("\n=== Test: 5M Integers (fixed size) ===");
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        for (int i = 0; i < 5_000_000; i++) {
+            numbers.add(i);
+        }
+        Path numbersFile = directory.resolve("numbers.bin");
+        long start = System.nanoTime();
+        ListFiles.write(numbers, numbersFile, ElementCodec.int32());
+        System.out.printf("write: %d ms, %d bytes%n", (System.nanoTime() - start) / 1_000_000, Files.size(numbersFile));
+
+        start = System.nanoTime();
+        MappedCustomList<Integer> mapped = ListFiles.map(numbersFile, ElementCodec.int32());
+        int last = mapped.get(mapped.size() - 1);
+        System.out.printf("map + get(last): %.2f ms → %d%n", (System.nanoTime() - start) / 1e6, last); // only one page is read
+
+        start = System.nanoTime();
+        CustomArrayList<Integer> loaded = ListFiles.load(numbersFile, ElementCodec.int32());
+        System.out.printf("load (decode all): %d ms, equal: %b%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(loaded.toArray(), numbers.toArray()));
+
+        try {
+            ListFiles.map(namesFile, ElementCodec.int32());
+        } catch (IOException e) {
+            System.out.println("Caught expected IOException: " + e.getMessage());
+        }
+
+        try {
+            mapped.add(1);
+        } catch (UnsupportedOperationException e) {
+            System.out.println("Caught expected UnsupportedOperationException");
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.collectionFramework.list.persistentList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Persistent Vector - an immutable list where every "update" returns a NEW version and the old one stays valid.
+ *
+ * Instead of copying the whole array (like CopyOnWriteArrayList), the elements live in a 32-way trie:
+ *
+ *                     root
+ *         /      /     |     \      \
+ *      [0..31] [32..63] ...            ← leaves with 32 elements each
+ *
+ * An update copies only the path from the root to the changed leaf (at most log₃₂(n) small arrays -
+ * about 4 arrays for a million elements). All other nodes are shared between the old and the new version.
+ *
+ *   get / updated (set)     O(log₃₂ n)  - practically constant
+ *   appended / removedLast  O(log₃₂ n)  - plus a 'tail' buffer, so most appends copy only the last 32 elements
+ *
+ * Because a version never changes, it can be handed to any number of reader threads without locks or copies.
+ *
+ * The CustomList mutators (add, remove, set, clear) throw UnsupportedOperationException, same as List.of().
+ * Use appended(), updated() and removedLast() - they return the new version.
+ * */
+
+public final class PersistentCustomList<E> implements CustomList<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS; // 32
+    private static final int MASK = WIDTH - 1;
+
+    private static final class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(new Object[WIDTH]);
+    private static final PersistentCustomList<?> EMPTY = new PersistentCustomList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    // Fields - all final, so a version is safely visible to other threads
+    private final int size;
+    private final int shift; // BITS * (depth of the trie)
+    private final Node root;
+    private final Object[] tail; // last 1..32 elements, kept outside of the trie
+
+    private PersistentCustomList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentCustomList<E> empty() {
+        return (PersistentCustomList<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentCustomList<E> of(E... elements) {
+        PersistentCustomList<E> list = empty();
+        for (E element : elements) {
+            list = list.appended(element);
+        }
+        return list;
+    }
+
+    public static <E> PersistentCustomList<E> copyOf(Iterable<? extends E> elements) {
+        PersistentCustomList<E> list = empty();
+        for (E element : elements) {
+            list = list.appended(element);
+        }
+        return list;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    //    For get/updated → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    // index of the first element inside the tail
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    // the leaf array (or the tail) which holds 'index'
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    // Persistent updates - each returns a new version, 'this' is never changed
+
+    public PersistentCustomList<E> appended(E element) {
+        if (size - tailOffset() < WIDTH) { // room in tail - copy only the tail
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentCustomList<>(size + 1, shift, root, newTail);
+        }
+
+        // tail is full - push it into the trie and start a new tail
+        Node tailNode = new Node(tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) { // root is full - the trie gets one level deeper
+            Object[] array = new Object[WIDTH];
+            array[0] = root;
+            array[1] = newPath(shift, tailNode);
+            newRoot = new Node(array);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new PersistentCustomList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] array = parent.array.clone(); // path copy
+        Node child;
+        if (level == BITS) {
+            child = tailNode;
+        } else {
+            Node existing = (Node) parent.array[subIndex];
+            child = (existing != null) ? pushTail(level - BITS, existing, tailNode) : newPath(level - BITS, tailNode);
+        }
+        array[subIndex] = child;
+        return new Node(array);
+    }
+
+    private static Node newPath(int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] array = new Object[WIDTH];
+        array[0] = newPath(level - BITS, node);
+        return new Node(array);
+    }
+
+    public PersistentCustomList<E> updated(int index, E element) {
+        checkRange(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentCustomList<>(size, shift, root, newTail);
+        }
+        return new PersistentCustomList<>(size, shift, updatePath(shift, root, index, element), tail);
+    }
+
+    private static Node updatePath(int level, Node node, int index, Object element) {
+        Object[] array = node.array.clone();
+        if (level == 0) {
+            array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            array[subIndex] = updatePath(level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return new Node(array);
+    }
+
+    public PersistentCustomList<E> removedLast() {
+        if (size == 0) {
+            throw new IllegalStateException("List is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) { // still something left in tail
+            return new PersistentCustomList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // tail becomes empty - the last leaf of the trie becomes the new tail
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) { // root has one child only - the trie gets one level lower
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentCustomList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Object[] array = node.array.clone();
+            array[subIndex] = newChild;
+            return new Node(array);
+        } else if (subIndex == 0) {
+            return null;
+        } else {
+            Object[] array = node.array.clone();
+            array[subIndex] = null;
+            return new Node(array);
+        }
+    }
+
+    // Read operations - they walk leaf by leaf, 32 elements at a time
+
+    @Override
+    public int indexOf(E element) {
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] leaf = leafFor(start);
+            for (int i = 0, n = Math.min(WIDTH, size - start); i < n; i++) {
+                if (element == null ? leaf[i] == null : element.equals(leaf[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int start = 0; start < size; start += WIDTH) {
+            System.arraycopy(leafFor(start), 0, result, start, Math.min(WIDTH, size - start));
+        }
+        return result;
+    }
+
+    // Mutators of CustomList - not supported, a version never changes
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("PersistentCustomList is immutable - use appended(), updated() or removedLast()");
+    }
+
+    @Override
+    public boolean add(E element) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean remove(E element) {
+        throw immutable();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw immutable();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        throw immutable();
+    }
+
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+            private Object[] leaf = size > 0 ? leafFor(0) : null;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                if (current > 0 && (current & MASK) == 0) { // next leaf - one trie walk per 32 elements
+                    leaf = leafFor(current);
+                }
+                return (E) leaf[current++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        PersistentCustomList<String> v1 = PersistentCustomList.of("A", "B", "C");
+        PersistentCustomList<String> v2 = v1.appended("D");
+        PersistentCustomList<String> v3 = v2.updated(0, "X");
+        PersistentCustomList<String> v4 = v3.removedLast();
+
+        System.out.println("v1: " + v1); // Expect: [A, B, C]
+        System.out.println("v2: " + v2); // Expect: [A, B, C, D]
+        System.out.println("v3: " + v3); // Expect: [X, B, C, D]
+        System.out.println("v4: " + v4); // Expect: [X, B, C]
+
+        try {
+            v1.add("Z");
+        } catch (UnsupportedOperationException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+
+        System.out.println("\n=== Test: Large versions share structure ===");
+        PersistentCustomList<Integer> big = PersistentCustomList.empty();
+        for (int i = 0; i < 1_000_000; i++) {
+            big = big.appended(i);
+        }
+        PersistentCustomList<Integer> changed = big.updated(123_456, -1);
+        System.out.println("old: " + big.get(123_456) + ", new: " + changed.get(123_456)); // Expect: old: 123456, new: -1
+        System.out.println("old root shared with new: " + (big.root.array[1] == changed.root.array[1])); // Expect: true
+
+        PersistentCustomList<Integer> shrunk = big;
+        for (int i = 0; i < 999_990; i++) {
+            shrunk = shrunk.removedLast();
+        }
+        System.out.println("after removedLast(): " + shrunk); // Expect: [0, 1, 2, 3, 4, 5, 6, 7, 8, 9]
+        System.out.println("original is still complete: " + big.size() + ", last = " + big.get(big.size() - 1)); // Expect: 1000000, 999999
+    }
+}
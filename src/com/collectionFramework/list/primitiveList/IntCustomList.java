@@ -0,0 +1,286 @@
+package com.collectionFramework.list.primitiveList;
+
+import com.collectionFramework.list.persistence.ListFiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/*
+ * Primitive version of CustomArrayList for int values.
+ *
+ * CustomArrayList<Integer> stores every value as an Integer object inside Object[] elementData,
+ * so each add() boxes the value and each get() unboxes it again.
+ * Here the values are stored directly inside int[] elementData - no boxing, no extra objects.
+ *
+ * Note: remove(int index) and "remove by value" can not share the same name for int,
+ * that's why remove by value is called removeElement(int element).
+ * */
+
+public class IntCustomList {
+
+    // Fields
+    private int[] elementData;
+    private int size = 0;
+    private static final int INITIAL_CAPACITY = 10;
+
+    // Constructors
+    public IntCustomList() {
+        this.elementData = new int[INITIAL_CAPACITY];
+    }
+
+    public IntCustomList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("illegal Capacity:" + initialCapacity);
+        }
+        this.elementData = new int[initialCapacity];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    // same growth policy as CustomArrayList.ensureCapacity()
+    private void ensureCapacity(int needCapacity) {
+        if (needCapacity > elementData.length) {
+            int oldCapacity = elementData.length;
+            int newCapacity = oldCapacity + (oldCapacity / 2);
+
+            if (newCapacity < needCapacity) { // if still too small, then
+                newCapacity = needCapacity;
+            }
+
+            this.elementData = Arrays.copyOf(this.elementData, newCapacity);
+        }
+    }
+
+    public boolean add(int element) {
+        ensureCapacity(this.size + 1);
+        elementData[size++] = element; // added element at the end.
+        return true;
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    public boolean add(int index, int element) {
+        checkRangeForAdd(index);
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.elementData, index, elementData, index + 1, size - index); // shift elements to the right by 1 position.
+
+        elementData[index] = element;
+        this.size++;
+        return true;
+    }
+
+    // remove first occurrence of the value
+    public boolean removeElement(int element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    public int remove(int index) {
+        checkRange(index);
+        int element = elementData[index];
+        int movedNumber = size - index - 1;
+        if (movedNumber > 0) {
+            System.arraycopy(this.elementData, index + 1, this.elementData, index, movedNumber);
+        }
+        this.size--; // no need to null out the slot, there is no reference to release
+        return element;
+    }
+
+    public int get(int index) {
+        checkRange(index);
+        return this.elementData[index];
+    }
+
+    public int indexOf(int element) {
+        for (int i = 0; i < this.size; i++) {
+            if (elementData[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int set(int index, int element) {
+        checkRange(index);
+        int oldValue = this.elementData[index];
+        this.elementData[index] = element;
+        return oldValue;
+    }
+
+    public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(this.elementData, this.size);
+    }
+
+    // Primitive operations - IntConsumer receives an int, so nothing gets boxed
+    public void forEach(IntConsumer action) {
+        int[] data = this.elementData;
+        int length = this.size;
+        for (int i = 0; i < length; i++) {
+            action.accept(data[i]);
+        }
+    }
+
+    // long result, so a big list of ints does not overflow
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < this.size; i++) {
+            sum += elementData[i];
+        }
+        return sum;
+    }
+
+    public int min() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int min = elementData[0];
+        for (int i = 1; i < this.size; i++) {
+            if (elementData[i] < min) {
+                min = elementData[i];
+            }
+        }
+        return min;
+    }
+
+    public int max() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        int max = elementData[0];
+        for (int i = 1; i < this.size; i++) {
+            if (elementData[i] > max) {
+                max = elementData[i];
+            }
+        }
+        return max;
+    }
+
+    /*
+     * Binary persistence - same file format as ListFiles with a fixed element size of Integer.BYTES:
+     * the raw values are copied in bulk between elementData and a direct buffer, no per-element work.
+     * */
+    public void writeTo(Path file) throws IOException {
+        ListFiles.checkFixedSize(Integer.BYTES, this.size);
+        try (FileChannel channel = ListFiles.create(file)) {
+            ByteBuffer buffer = ListFiles.newBuffer();
+            ListFiles.writeHeader(buffer, Integer.BYTES, this.size);
+            for (int i = 0; i < this.size; ) {
+                int count = Math.min(this.size - i, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(this.elementData, i, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                i += count;
+                ListFiles.flush(channel, buffer);
+            }
+            ListFiles.flush(channel, buffer);
+        }
+    }
+
+    // maps the file and copies the values straight into a new elementData
+    public static IntCustomList readFrom(Path file) throws IOException {
+        ByteBuffer buffer = ListFiles.mapReadOnly(file);
+        int count = ListFiles.readHeader(buffer, Integer.BYTES, file);
+        IntCustomList list = new IntCustomList(count);
+        buffer.position(ListFiles.HEADER_SIZE).asIntBuffer().get(list.elementData, 0, count);
+        list.size = count;
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(this.elementData, this.size));
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        IntCustomList list = new IntCustomList();
+
+        System.out.println("=== Test: Add Elements ===");
+        list.add(10);
+        list.add(20);
+        list.add(30);
+        System.out.println(list); // Expect: [10, 20, 30]
+
+        System.out.println("\n=== Test: Add at Index ===");
+        list.add(1, 15);
+        System.out.println(list); // Expect: [10, 15, 20, 30]
+
+        System.out.println("\n=== Test: Remove ===");
+        list.remove(0); // remove by index
+        list.removeElement(20); // remove by value
+        System.out.println(list); // Expect: [15, 30]
+
+        System.out.println("\n=== Test: Auto Resize ===");
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        System.out.println(list);
+
+        System.out.println("\n=== Test: Aggregates ===");
+        System.out.println("sum: " + list.sum()); // Expect: 235
+        System.out.println("min: " + list.min()); // Expect: 0
+        System.out.println("max: " + list.max()); // Expect: 30
+        System.out.println("indexOf(5): " + list.indexOf(5)); // Expect: 7
+
+        System.out.print("forEach: ");
+        list.forEach(value -> System.out.print(value + " "));
+        System.out.println();
+
+        System.out.println("\n=== Test: writeTo / readFrom ===");
+        try {
+            Path file = Files.createTempFile("ints", ".bin");
+            list.writeTo(file);
+            System.out.println(IntCustomList.readFrom(file)); // Expect: same as list
+        } catch (IOException e) {
+            System.out.println("Unexpected exception: " + e.getMessage());
+        }
+
+        System.out.println("\n=== Test: Exceptions ===");
+        try {
+            list.get(100);
+        } catch (IndexOutOfBoundsException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+
+        list.clear();
+        try {
+            list.min();
+        } catch (NoSuchElementException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.collectionFramework.list.smallList;
+
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/*
+ * List for tiny per-record lists, e.g. the 1-3 phone numbers of a Customer (see MapVsFlatMapExample).
+ *
+ * An ArrayList with 2 elements is 2 objects: the list (24 bytes) + an Object[10] (56 bytes) = 80 bytes,
+ * most of it empty slots. With millions of records that overhead is bigger than the data itself.
+ *
+ * Here the first INLINE_CAPACITY elements live directly in fields of the list object:
+ *
+ *   size <= 3:  [ header | e0 | e1 | e2 | spill = null | size ]       one object, 32 bytes
+ *   size >  3:  [ header | null | null | null | spill ─┼─ size ] → Object[] with all elements
+ *
+ * When a 4th element is added, all elements move ("inflate") into the spill array, which then grows like
+ * CustomArrayList. trimToSize() moves them back into the fields once the list is small again.
+ *
+ * Factory methods pick the smallest representation: of(...) with up to 3 elements stays inline,
+ * copyOf() with more elements allocates a spill array of exactly the right size.
+ * */
+
+public class SmallCustomList<E> implements CustomList<E> {
+
+    static final int INLINE_CAPACITY = 3;
+
+    // Fields
+    private Object e0;
+    private Object e1;
+    private Object e2;
+    private Object[] spill; // null while the elements are inline
+    private int size = 0;
+
+    public SmallCustomList() {
+    }
+
+    // Factory methods
+
+    public static <E> SmallCustomList<E> of() {
+        return new SmallCustomList<>();
+    }
+
+    public static <E> SmallCustomList<E> of(E first) {
+        SmallCustomList<E> list = new SmallCustomList<>();
+        list.e0 = first;
+        list.size = 1;
+        return list;
+    }
+
+    public static <E> SmallCustomList<E> of(E first, E second) {
+        SmallCustomList<E> list = of(first);
+        list.e1 = second;
+        list.size = 2;
+        return list;
+    }
+
+    public static <E> SmallCustomList<E> of(E first, E second, E third) {
+        SmallCustomList<E> list = of(first, second);
+        list.e2 = third;
+        list.size = 3;
+        return list;
+    }
+
+    @SafeVarargs
+    public static <E> SmallCustomList<E> of(E... elements) {
+        return fromArray(Arrays.copyOf(elements, elements.length, Object[].class)); // a String[] would reject other elements later
+    }
+
+    public static <E> SmallCustomList<E> copyOf(Collection<? extends E> elements) {
+        Object[] array = elements.toArray(); // may be a subtype array (e.g. Arrays.asList(String[]))
+        return fromArray(Arrays.copyOf(array, array.length, Object[].class));
+    }
+
+    // takes ownership of 'elements'
+    private static <E> SmallCustomList<E> fromArray(Object[] elements) {
+        SmallCustomList<E> list = new SmallCustomList<>();
+        if (elements.length > INLINE_CAPACITY) {
+            list.spill = elements; // exact size, no empty slots
+        } else {
+            for (int i = 0; i < elements.length; i++) {
+                list.setInline(i, elements[i]);
+            }
+        }
+        list.size = elements.length;
+        return list;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isInline() {
+        return spill == null;
+    }
+
+    // Inline slots
+
+    private Object inline(int index) {
+        switch (index) {
+            case 0:
+                return e0;
+            case 1:
+                return e1;
+            default:
+                return e2;
+        }
+    }
+
+    private void setInline(int index, Object element) {
+        switch (index) {
+            case 0:
+                e0 = element;
+                break;
+            case 1:
+                e1 = element;
+                break;
+            default:
+                e2 = element;
+        }
+    }
+
+    // moves the inline elements into a spill array with room for 'needCapacity' elements
+    private void inflate(int needCapacity) {
+        Object[] array = new Object[Math.max(needCapacity, INLINE_CAPACITY * 2)];
+        for (int i = 0; i < size; i++) {
+            array[i] = inline(i);
+        }
+        e0 = e1 = e2 = null;
+        spill = array;
+    }
+
+    // same growth policy as CustomArrayList.ensureCapacity()
+    private void ensureCapacity(int needCapacity) {
+        if (spill == null) {
+            if (needCapacity > INLINE_CAPACITY) {
+                inflate(needCapacity);
+            }
+        } else if (needCapacity > spill.length) {
+            int newCapacity = Math.max(spill.length + (spill.length / 2), needCapacity);
+            spill = Arrays.copyOf(spill, newCapacity);
+        }
+    }
+
+    // back to the inline form if the elements fit, otherwise a spill array of exactly 'size'
+    public void trimToSize() {
+        if (spill == null) {
+            return;
+        }
+        if (size <= INLINE_CAPACITY) {
+            Object[] array = spill;
+            spill = null;
+            for (int i = 0; i < size; i++) {
+                setInline(i, array[i]);
+            }
+        } else if (size < spill.length) {
+            spill = Arrays.copyOf(spill, size);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    // List operations
+
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(size + 1);
+        if (spill == null) {
+            setInline(size, element);
+        } else {
+            spill[size] = element;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        ensureCapacity(size + 1);
+        if (spill == null) {
+            for (int i = size; i > index; i--) {
+                setInline(i, inline(i - 1));
+            }
+            setInline(index, element);
+        } else {
+            System.arraycopy(spill, index, spill, index + 1, size - index);
+            spill[index] = element;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    // stays in the spill array - trimToSize() moves small lists back inline (avoids re-inflating on every add/remove)
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkRange(index);
+        Object removed;
+        if (spill == null) {
+            removed = inline(index);
+            for (int i = index; i < size - 1; i++) {
+                setInline(i, inline(i + 1));
+            }
+            setInline(size - 1, null);
+        } else {
+            removed = spill[index];
+            System.arraycopy(spill, index + 1, spill, index, size - index - 1);
+            spill[size - 1] = null;
+        }
+        size--;
+        return (E) removed;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        return (E) (spill == null ? inline(index) : spill[index]);
+    }
+
+    @Override
+    public int indexOf(E element) {
+        for (int i = 0; i < size; i++) {
+            Object value = spill == null ? inline(i) : spill[i];
+            if (element == null ? value == null : element.equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkRange(index);
+        Object oldValue;
+        if (spill == null) {
+            oldValue = inline(index);
+            setInline(index, element);
+        } else {
+            oldValue = spill[index];
+            spill[index] = element;
+        }
+        return (E) oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        e0 = e1 = e2 = null;
+        spill = null;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        if (spill != null) {
+            return Arrays.copyOf(spill, size);
+        }
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = inline(i);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return get(current++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        System.out.println("=== Test: Inline and Inflate ===");
+        SmallCustomList<String> phones = SmallCustomList.of("+91 98765 43210", "+91 91234 56789");
+        System.out.println(phones + " inline: " + phones.isInline()); // Expect: 2 numbers, inline: true
+        phones.add(0, "A");
+        phones.add("B"); // 4th element - inflates
+        System.out.println(phones + " inline: " + phones.isInline()); // Expect: [A, +91.., +91.., B] inline: false
+        phones.remove("A");
+        phones.remove(2);
+        phones.trimToSize();
+        System.out.println(phones + " inline: " + phones.isInline()); // Expect: 2 numbers, inline: true
+
+        System.out.println("\n=== Test: of / copyOf with a subtype array ===");
+        SmallCustomList<CharSequence> texts = SmallCustomList.of(new String[]{"a", "b", "c", "d"}); // spilled, own Object[]
+        texts.set(0, new StringBuilder("sb")); // no ArrayStoreException
+        SmallCustomList<CharSequence> copied = SmallCustomList.copyOf(Arrays.asList(new String[]{"e", "f", "g", "h"}));
+        copied.add(new StringBuilder("i"));
+        System.out.println(texts + " " + copied); // Expect: [sb, b, c, d] [e, f, g, h, i]
+
+        System.out.println("\n=== Test: Heap per Customer.phoneNumbers list (1-3 numbers) ===");
+        String[] numbers = {"+91 98765 43210", "+91 91234 56789", "+91 99887 76655"}; // shared - only list overhead is measured
+        int records = 1_000_000;
+        measure("java.util.ArrayList", records, count -> {
+            List<String> list = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                list.add(numbers[i]);
+            }
+            return list;
+        });
+        measure("CustomArrayList", records, count -> {
+            CustomArrayList<String> list = new CustomArrayList<>();
+            for (int i = 0; i < count; i++) {
+                list.add(numbers[i]);
+            }
+            return list;
+        });
+        measure("SmallCustomList", records, count -> {
+            SmallCustomList<String> list = new SmallCustomList<>();
+            for (int i = 0; i < count; i++) {
+                list.add(numbers[i]);
+            }
+            return list;
+        });
+    }
+
+    // 'records' lists with 1, 2, 3, 1, 2, 3, ... elements; prints the retained heap per list
+    private static void measure(String name, int records, IntFunction<Object> factory) {
+        Object[] lists = new Object[records];
+        long before = usedHeap();
+        for (int i = 0; i < records; i++) {
+            lists[i] = factory.apply(1 + i % INLINE_CAPACITY);
+        }
+        long after = usedHeap();
+        System.out.printf("%-20s %6.1f bytes per record%n", name, (after - before) / (double) records);
+        if (lists[records - 1] == null) { // keeps 'lists' reachable until after the measurement
+            System.out.println();
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
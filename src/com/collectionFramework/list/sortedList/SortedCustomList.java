@@ -0,0 +1,438 @@
+package com.collectionFramework.list.sortedList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/*
+ * Sorted list - an array list which is always kept in the order of a Comparator.
+ *
+ * Because the array is always sorted, lookups use binary search instead of a linear scan:
+ *   indexOf / contains / floor / ceiling / range   → O(log n)
+ *   add(e)                                         → O(log n) search + shift of the tail
+ *   addAll(batch)                                  → sort the batch, then ONE linear merge - O(n + k log k)
+ *                                                    instead of k separate inserts - O(k * n)
+ *
+ * Equal elements (compare() == 0) keep their insertion order - new ones go after the existing ones (stable).
+ * Any Comparator works, also chains like:
+ *   Comparator.comparingDouble(Student::gpa).reversed().thenComparing(Student::name)
+ *
+ * Null elements are allowed only if the comparator handles them (e.g. Comparator.nullsFirst(...)).
+ *
+ * The position of an element is decided by the comparator, so add(index, e) and set(index, e) only accept
+ * an element which keeps the order, otherwise they throw IllegalArgumentException.
+ * */
+
+public class SortedCustomList<E> implements CustomList<E> {
+
+    // Fields
+    private final Comparator<? super E> comparator;
+    private Object[] elementData;
+    private int size = 0;
+    private static final int INITIAL_CAPACITY = 10;
+
+    // Constructors
+    public SortedCustomList(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.elementData = new Object[INITIAL_CAPACITY];
+    }
+
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void ensureCapacity(int needCapacity) {
+        if (needCapacity > elementData.length) {
+            // compute new capacity
+            int oldCapacity = elementData.length;
+            int newCapacity = oldCapacity + (oldCapacity / 2);
+
+            if (newCapacity < needCapacity) { // if still too small, then
+                newCapacity = needCapacity;
+            }
+
+            this.elementData = Arrays.copyOf(this.elementData, newCapacity);
+        }
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) elementData[index];
+    }
+
+    // Binary search helpers
+
+    // first index with element >= key  (lower bound)
+    private int lowerBound(E key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elementAt(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // first index with element > key  (upper bound)
+    private int upperBound(E key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elementAt(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // true if 'element' can be stored between the elements at 'before' and 'after' without breaking the order
+    private boolean fitsBetween(E element, int before, int after) {
+        return (before < 0 || comparator.compare(elementAt(before), element) <= 0)
+                && (after >= size || comparator.compare(element, elementAt(after)) <= 0);
+    }
+
+    private void insertAt(int index, Object element) {
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.elementData, index, elementData, index + 1, size - index); // shift elements to the right by 1 position.
+        elementData[index] = element;
+        this.size++;
+    }
+
+    // inserted after all equal elements, so equal elements keep their insertion order
+    @Override
+    public boolean add(E element) {
+        insertAt(upperBound(element), element);
+        return true;
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        if (!fitsBetween(element, index - 1, index)) {
+            throw new IllegalArgumentException("element does not keep the sort order at index: " + index);
+        }
+        insertAt(index, element);
+        return true;
+    }
+
+    /*
+     * Bulk insert by merging:
+     *   1. sort only the new batch (stable)
+     *   2. grow the array once
+     *   3. merge both sorted runs from the back to the front, so no element is moved twice
+     * */
+    public boolean addAll(Collection<? extends E> elements) {
+        return mergeSorted(elements.toArray());
+    }
+
+    public boolean addAll(CustomList<? extends E> elements) {
+        return mergeSorted(elements.toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean mergeSorted(Object[] batch) {
+        int count = batch.length;
+        if (count == 0) {
+            return false;
+        }
+        Arrays.sort(batch, (a, b) -> comparator.compare((E) a, (E) b)); // TimSort - stable
+        ensureCapacity(size + count);
+
+        int i = size - 1; // last of the existing elements
+        int j = count - 1; // last of the batch
+        int write = size + count - 1;
+        while (j >= 0) {
+            // existing element goes last when it is bigger - on a tie the batch element goes last (stable: new after old)
+            if (i >= 0 && comparator.compare((E) elementData[i], (E) batch[j]) > 0) {
+                elementData[write--] = elementData[i--];
+            } else {
+                elementData[write--] = batch[j--];
+            }
+        }
+        size += count;
+        return true;
+    }
+
+    // the position is decided by the comparator - the index would be ignored, so it is not accepted
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        throw new UnsupportedOperationException("SortedCustomList decides the position itself - use addAll(Collection)");
+    }
+
+    @Override
+    public boolean addAll(int index, CustomList<? extends E> elements) {
+        throw new UnsupportedOperationException("SortedCustomList decides the position itself - use addAll(CustomList)");
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkRange(index);
+        E element = elementAt(index);
+        int movedNumber = size - index - 1;
+        if (movedNumber > 0) {
+            System.arraycopy(this.elementData, index + 1, this.elementData, index, movedNumber);
+        }
+        elementData[--this.size] = null;
+        return element;
+    }
+
+    // single pass compaction - removing keeps the order, so nothing has to be re-sorted
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int write = 0;
+        int read = 0;
+        boolean removed;
+        try {
+            for (; read < size; read++) {
+                Object element = elementData[read];
+                if (!filter.test(elementAt(read))) {
+                    elementData[write++] = element;
+                }
+            }
+        } finally {
+            if (read < size) { // filter threw an exception - keep the elements which were not visited yet
+                System.arraycopy(elementData, read, elementData, write, size - read);
+                write += size - read;
+            }
+            Arrays.fill(elementData, write, size, null);
+            removed = write != size;
+            size = write;
+        }
+        return removed;
+    }
+
+    @Override
+    public E get(int index) {
+        checkRange(index);
+        return elementAt(index);
+    }
+
+    /*
+     * Binary search to the first element which compares equal, then equals() inside that (usually tiny) group -
+     * a comparator may call two different elements "equal" (e.g. same gpa), indexOf must still find the right one.
+     * */
+    @Override
+    public int indexOf(E element) {
+        for (int i = lowerBound(element); i < size && comparator.compare(elementAt(i), element) == 0; i++) {
+            if (element == null ? elementData[i] == null : element.equals(elementData[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkRange(index);
+        if (!fitsBetween(element, index - 1, index + 1)) {
+            throw new IllegalArgumentException("element does not keep the sort order at index: " + index);
+        }
+        E oldValue = elementAt(index);
+        this.elementData[index] = element;
+        return oldValue;
+    }
+
+    // the list is already sorted - another order is only accepted if it still keeps the list's comparator
+    // (e.g. a tie-breaker among equal elements); checked on a copy, so a rejected sort leaves the list unchanged
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Object[] sorted = Arrays.copyOf(this.elementData, size);
+        Arrays.sort(sorted, (Comparator<Object>) comparator);
+        for (int i = 1; i < sorted.length; i++) {
+            if (this.comparator.compare((E) sorted[i - 1], (E) sorted[i]) > 0) {
+                throw new IllegalArgumentException("order does not keep the sort order of the list at index: " + i);
+            }
+        }
+        System.arraycopy(sorted, 0, this.elementData, 0, size);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    // Navigation - like TreeSet, but with duplicates and index access
+
+    // greatest element <= key, or null
+    public E floor(E key) {
+        int index = upperBound(key) - 1;
+        return index >= 0 ? elementAt(index) : null;
+    }
+
+    // smallest element >= key, or null
+    public E ceiling(E key) {
+        int index = lowerBound(key);
+        return index < size ? elementAt(index) : null;
+    }
+
+    // greatest element < key, or null
+    public E lower(E key) {
+        int index = lowerBound(key) - 1;
+        return index >= 0 ? elementAt(index) : null;
+    }
+
+    // smallest element > key, or null
+    public E higher(E key) {
+        int index = upperBound(key);
+        return index < size ? elementAt(index) : null;
+    }
+
+    public E first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return elementAt(0);
+    }
+
+    public E last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return elementAt(size - 1);
+    }
+
+    // number of elements in [fromInclusive, toExclusive) - two binary searches, no scan
+    public int countInRange(E fromInclusive, E toExclusive) {
+        return Math.max(0, lowerBound(toExclusive) - lowerBound(fromInclusive));
+    }
+
+    // elements in [fromInclusive, toExclusive) as a new sorted list - one array copy of the range
+    public SortedCustomList<E> range(E fromInclusive, E toExclusive) {
+        int from = lowerBound(fromInclusive);
+        int to = Math.max(from, lowerBound(toExclusive));
+        SortedCustomList<E> result = new SortedCustomList<>(comparator);
+        result.elementData = Arrays.copyOfRange(elementData, from, to);
+        result.size = to - from;
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.elementData, 0, size, null);
+        this.size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(this.elementData, this.size);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                return elementAt(current++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(this.elementData, this.size));
+    }
+
+    // TESTING
+    record Student(String name, Double gpa) {}
+
+    public static void main(String[] args) {
+        // same Comparator chain as in ComparatorFunctionalInterface
+        Comparator<Student> studentComparator = Comparator.comparingDouble(Student::gpa)
+                .reversed()
+                .thenComparing(Student::name);
+
+        SortedCustomList<Student> students = new SortedCustomList<>(studentComparator);
+        students.add(new Student("Krishna", 3.8));
+        students.add(new Student("Lalita", 3.6));
+        students.addAll(java.util.List.of(new Student("Radhika", 4.0), new Student("Sudevi", 3.6), new Student("Vishakha", 3.9)));
+        System.out.println(students);
+        // Expect order: Radhika (4.0), Vishakha (3.9), Krishna (3.8), Lalita (3.6), Sudevi (3.6)
+
+        System.out.println("indexOf(Lalita): " + students.indexOf(new Student("Lalita", 3.6))); // Expect: 3
+        System.out.println("ceiling(3.85): " + students.ceiling(new Student("", 3.85))); // Expect: Krishna (first with gpa <= 3.85)
+        System.out.println("count gpa in (3.9 .. 3.6]: " + students.countInRange(new Student("", 3.9), new Student("", 3.6))); // Expect: 2
+
+        System.out.println("\n=== Test: Merge based addAll against sort ===");
+        SortedCustomList<Integer> numbers = new SortedCustomList<>(Comparator.naturalOrder());
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(1);
+        for (int round = 0; round < 20; round++) {
+            java.util.List<Integer> batch = new java.util.ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                batch.add(random.nextInt(10_000));
+            }
+            numbers.addAll(batch);
+            expected.addAll(batch);
+        }
+        expected.sort(null);
+        System.out.println("Same as sorted java.util.ArrayList: " + Arrays.equals(numbers.toArray(), expected.toArray())); // Expect: true
+        System.out.println("range [100, 200): " + numbers.range(100, 200).size() + " elements, floor(-1): " + numbers.floor(-1));
+
+        try {
+            numbers.add(0, 99_999);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+        try {
+            numbers.sort(Comparator.reverseOrder());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught expected exception: " + e.getMessage());
+        }
+        System.out.println("Unchanged after rejected sort: " + Arrays.equals(numbers.toArray(), expected.toArray())); // Expect: true
+    }
+}
@@ -0,0 +1,229 @@
+package com.collectionFramework.list.stack;
+
+import java.util.Arrays;
+
+/*
+ * Growable int stack made of linked fixed-size int[] segments.
+ *
+ *   CustomStackUsingArray        fixed capacity - "Stack is full"
+ *   CustomStackUsingLinkedList   one Node object per push
+ *   ChunkedIntStack              grows by one segment at a time, no object per push, values are never copied on growth
+ *
+ *   segment 0          segment 1          segment 2 (current)
+ *   [ 1024 ints ] ←─── [ 1024 ints ] ←─── [ 37 used ... ]  ───→ [ spare ]
+ *                 prev               prev                  next
+ *
+ * push/pop work on the current segment; only at a segment border they move to the next/previous one.
+ * Segment retention: when pop leaves a segment, it is kept as 'spare' (only one), so a depth that keeps
+ * going up and down around a border does not allocate and free a segment every time.
+ *
+ * Typical use: iterative DFS instead of recursion - millions of levels without StackOverflowError.
+ * */
+
+public class ChunkedIntStack {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    // Segment class - one block of values, linked to the segment below it
+    private static class Segment {
+        final int[] data;
+        Segment prev;
+        Segment next; // spare segment above this one (or null)
+
+        Segment(int size, Segment prev) {
+            this.data = new int[size];
+            this.prev = prev;
+        }
+    }
+
+    private Segment current;
+    private int count; // used values in 'current'
+    private int size;
+    private int segments = 1; // allocated segments, including the spare one
+
+    // Constructor to initialize an empty stack
+    public ChunkedIntStack() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    public ChunkedIntStack(int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("illegal segment size: " + segmentSize);
+        }
+        this.current = new Segment(segmentSize, null);
+    }
+
+    // current is full - continue in the spare segment, or allocate a new one
+    private void nextSegment() {
+        if (current.next == null) {
+            current.next = new Segment(current.data.length, current);
+            segments++;
+        }
+        current = current.next;
+        count = 0;
+    }
+
+    // current is empty - go back one segment; current becomes the spare, a spare above it is released
+    private void previousSegment() {
+        if (current.next != null) {
+            current.next = null;
+            segments--;
+        }
+        current = current.prev;
+        count = current.data.length;
+    }
+
+    // Push method to add an element to the top of the stack
+    public void push(int data) {
+        if (count == current.data.length) {
+            nextSegment();
+        }
+        current.data[count++] = data;
+        size++;
+    }
+
+    // Pop method to remove and return the top element of the stack
+    public int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        if (count == 0) {
+            previousSegment();
+        }
+        size--;
+        return current.data[--count];
+    }
+
+    // Peek method to view the top element without removing it
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        return count == 0 ? current.prev.data[current.prev.data.length - 1] : current.data[count - 1];
+    }
+
+    // Bulk push - values[offset] is pushed first, values[offset + length - 1] ends up on top
+    public void pushAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || length > values.length - offset) { // not offset + length - that can overflow
+            throw new IndexOutOfBoundsException("Illegal range: offset " + offset + ", length " + length);
+        }
+        while (length > 0) {
+            if (count == current.data.length) {
+                nextSegment();
+            }
+            int chunk = Math.min(length, current.data.length - count);
+            System.arraycopy(values, offset, current.data, count, chunk);
+            count += chunk;
+            size += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    public void pushAll(int[] values) {
+        pushAll(values, 0, values.length);
+    }
+
+    /*
+     * Bulk pop - removes up to n values and copies them to target[offset ...] in stack order
+     * (the value which was on top ends up last), so pushAll() with the same range restores them.
+     * Returns the number of values popped (less than n if the stack runs empty).
+     * */
+    public int popN(int[] target, int offset, int n) {
+        if (offset < 0 || n < 0 || n > target.length - offset) {
+            throw new IndexOutOfBoundsException("Illegal range: offset " + offset + ", length " + n);
+        }
+        int popped = Math.min(n, size);
+        int end = offset + popped; // fill the target from the back, segment by segment
+        int remaining = popped;
+        while (remaining > 0) {
+            if (count == 0) {
+                previousSegment();
+            }
+            int chunk = Math.min(remaining, count);
+            count -= chunk;
+            end -= chunk;
+            System.arraycopy(current.data, count, target, end, chunk);
+            remaining -= chunk;
+        }
+        size -= popped;
+        return popped;
+    }
+
+    // keeps the first segment, everything else is released
+    public void clear() {
+        while (current.prev != null) {
+            current = current.prev;
+        }
+        current.next = null;
+        count = 0;
+        size = 0;
+        segments = 1;
+    }
+
+    // Method to check if the stack is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Method to get the current size of the stack
+    public int size() {
+        return size;
+    }
+
+    public int segmentCount() {
+        return segments;
+    }
+
+    // Main method for testing the ChunkedIntStack implementation
+    public static void main(String[] args) {
+        ChunkedIntStack stack = new ChunkedIntStack(4);
+
+        for (int i = 1; i <= 10; i++) {
+            stack.push(i);
+        }
+        System.out.println("Top element is: " + stack.peek()); // Output: 10
+        System.out.println("Stack size is: " + stack.size() + ", segments: " + stack.segmentCount()); // Output: 10, segments: 3
+
+        int[] top = new int[6];
+        int popped = stack.popN(top, 0, 6);
+        System.out.println("popN(6): " + popped + " values " + Arrays.toString(top)); // Output: 6 values [5, 6, 7, 8, 9, 10]
+        System.out.println("Popped element is: " + stack.pop()); // Output: 4
+        stack.pushAll(new int[]{40, 50});
+        System.out.println("Top element is: " + stack.peek() + ", size: " + stack.size()); // Output: 50, size: 5
+
+        System.out.println("\n=== Segment retention: depth oscillates around a segment border ===");
+        ChunkedIntStack oscillating = new ChunkedIntStack(1024);
+        for (int i = 0; i < 1024; i++) {
+            oscillating.push(i);
+        }
+        for (int i = 0; i < 1_000_000; i++) {
+            oscillating.push(i); // crosses into the next segment
+            oscillating.pop(); // and back
+        }
+        System.out.println("segments: " + oscillating.segmentCount()); // Output: 2 - the spare is reused, not reallocated
+
+        System.out.println("\n=== Iterative DFS over a path of 5,000,000 nodes (recursion would overflow) ===");
+        int nodes = 5_000_000;
+        boolean[] visited = new boolean[nodes];
+        ChunkedIntStack dfs = new ChunkedIntStack();
+        int maxDepth = 0;
+        int visitedCount = 0;
+        dfs.push(0);
+        while (!dfs.isEmpty()) {
+            int node = dfs.peek();
+            if (!visited[node]) {
+                visited[node] = true;
+                visitedCount++;
+            }
+            int next = node + 1; // the only neighbour in a path graph
+            if (next < nodes && !visited[next]) {
+                dfs.push(next);
+                maxDepth = Math.max(maxDepth, dfs.size());
+            } else {
+                dfs.pop();
+            }
+        }
+        System.out.println("visited: " + visitedCount + ", max depth: " + maxDepth); // Output: visited: 5000000, max depth: 5000000
+    }
+}
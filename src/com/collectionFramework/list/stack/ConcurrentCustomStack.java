@@ -0,0 +1,178 @@
+package com.collectionFramework.list.stack;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Lock-free stack (Treiber stack) with an elimination array - the thread-safe version of CustomStackUsingLinkedList.
+ *
+ * Same Node design, but 'top' is changed with compare-and-set (CAS) instead of a lock:
+ *
+ *   push:  node.next = top;      CAS(top: node.next → node)      retry if another thread changed top meanwhile
+ *   pop:   t = top;              CAS(top: t → t.next)            retry the same way
+ *
+ * Elimination: under contention all threads fight for the single 'top' reference. But a push and a pop which
+ * happen at the same time cancel each other out - the popper can take the value directly from the pusher,
+ * and the stack itself is never touched. So when a CAS on top fails:
+ *   - a pusher puts its node into a random slot of the elimination array and waits a moment for a popper,
+ *   - a popper looks into a random slot and takes the node waiting there.
+ * If nobody comes, the pusher takes its node back and retries on the stack.
+ *
+ * ABA problem: a CAS on 'top' could succeed wrongly if top changed A → B → A in between (e.g. A was popped,
+ * its memory reused for a new node and pushed again). Here every push creates a NEW node and nodes are never
+ * reused or pooled - while a thread holds a reference to A, the garbage collector can not recycle A, so
+ * "the same reference again" really means "nothing changed". The same holds for the elimination slots.
+ * */
+
+public class ConcurrentCustomStack {
+
+    // Node class to represent each element in the stack
+    private static class Node {
+        final int data;
+        Node next;
+
+        Node(int data) {
+            this.data = data;
+        }
+    }
+
+    private static final int ELIMINATION_SPINS = 128; // how long a pusher waits in a slot for a popper
+
+    private final AtomicReference<Node> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node> elimination; // slot = node offered by a waiting pusher, or null
+
+    // Constructor - one elimination slot per two cores
+    public ConcurrentCustomStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    // eliminationSlots = 0 turns elimination off (plain Treiber stack)
+    public ConcurrentCustomStack(int eliminationSlots) {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("illegal number of elimination slots: " + eliminationSlots);
+        }
+        this.elimination = eliminationSlots == 0 ? null : new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    // Push method to add an element to the top of the stack
+    public void push(int data) {
+        Node newNode = new Node(data);
+        while (true) {
+            Node oldTop = top.get();
+            newNode.next = oldTop;
+            if (top.compareAndSet(oldTop, newNode)) {
+                return;
+            }
+            if (elimination != null && offerToPopper(newNode)) { // contention - try to meet a popper
+                return;
+            }
+        }
+    }
+
+    // Pop method to remove and return the top element of the stack
+    public int pop() {
+        while (true) {
+            Node oldTop = top.get();
+            if (oldTop == null) {
+                throw new IllegalStateException("Stack is empty");
+            }
+            if (top.compareAndSet(oldTop, oldTop.next)) {
+                return oldTop.data;
+            }
+            if (elimination != null) { // contention - try to meet a pusher
+                Node node = takeFromPusher();
+                if (node != null) {
+                    return node.data;
+                }
+            }
+        }
+    }
+
+    // true = a popper took the node, so the push is done
+    private boolean offerToPopper(Node node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (!elimination.compareAndSet(slot, null, node)) {
+            return false; // slot is busy
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (elimination.get(slot) != node) {
+                return true; // taken
+            }
+            Thread.onSpinWait();
+        }
+        // nobody came - withdraw; if that fails, a popper took it in the last moment
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    private Node takeFromPusher() {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        Node node = elimination.get(slot);
+        if (node != null && elimination.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+
+    // Peek method to view the top element without removing it
+    public int peek() {
+        Node current = top.get();
+        if (current == null) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        return current.data;
+    }
+
+    // Method to check if the stack is empty
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    // O(n) walk - a shared size counter would be a second contention point on every push/pop.
+    // The result is only a snapshot if other threads are pushing or popping at the same time.
+    public int size() {
+        int size = 0;
+        for (Node x = top.get(); x != null; x = x.next) {
+            size++;
+        }
+        return size;
+    }
+
+    // Main method for testing the ConcurrentCustomStack implementation
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentCustomStack stack = new ConcurrentCustomStack();
+
+        stack.push(10);
+        stack.push(20);
+        stack.push(30);
+        System.out.println("Top element is: " + stack.peek()); // Output: 30
+        System.out.println("Popped element is: " + stack.pop()); // Output: 30
+        System.out.println("Stack size is: " + stack.size());   // Output: 2
+
+        // 8 threads push 100_000 values each, then pop as many - every value must come out exactly once
+        int threads = 8;
+        int perThread = 100_000;
+        long[] popped = new long[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(1);
+                    popped[id] += stack.pop();
+                    stack.push(1);
+                }
+                for (int i = 0; i < perThread; i++) {
+                    popped[id] += stack.pop();
+                }
+            });
+            workers[t].start();
+        }
+        long total = 0;
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+            total += popped[t];
+        }
+        System.out.println("Popped " + total + " of " + (2L * threads * perThread) + ", left: " + stack.size()); // left: 2
+    }
+}
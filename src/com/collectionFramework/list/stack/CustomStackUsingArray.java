@@ -45,4 +45,14 @@ public class CustomStackUsingArray {
     public int size() {
         return top + 1;
     }
+
+    // Method to get the maximum number of elements the stack can hold
+    public int capacity() {
+        return capacity;
+    }
+
+    // Method to remove all elements - the array is kept, so the stack can be reused without allocating
+    public void clear() {
+        top = -1;
+    }
 }
@@ -0,0 +1,141 @@
+package com.collectionFramework.list.stack.expression;
+
+import com.collectionFramework.list.stack.CustomStackUsingArray;
+
+/*
+ * Runs compiled Programs on a CustomStackUsingArray operand stack.
+ *
+ * The stack is created once and reused by every evaluation (clear() only resets 'top'); it is replaced by a
+ * bigger one only when a Program needs more depth than any Program before. Together with int operands and
+ * variables passed as int[], an evaluation allocates nothing - no boxing, no tokens, no iterator.
+ *
+ * Not thread-safe (it owns the stack) - use one Evaluator per thread, ExpressionEngine does that with a ThreadLocal.
+ * */
+
+public final class Evaluator {
+
+    private static final int DEFAULT_STACK_CAPACITY = 16;
+
+    private CustomStackUsingArray stack = new CustomStackUsingArray(DEFAULT_STACK_CAPACITY);
+
+    private static final int[] NO_VALUES = new int[0];
+
+    // for expressions without variables
+    public int evaluate(Program program) {
+        return evaluate(program, NO_VALUES);
+    }
+
+    // values[i] is the value of program.variables()[i] - see Program.slot(name)
+    public int evaluate(Program program, int[] values) {
+        if (values.length < program.variableCount()) {
+            throw new IllegalArgumentException("expected " + program.variableCount() + " values, got " + values.length);
+        }
+        CustomStackUsingArray stack = this.stack;
+        if (stack.capacity() < program.maxStackDepth) {
+            stack = this.stack = new CustomStackUsingArray(program.maxStackDepth);
+        }
+        stack.clear(); // a previous evaluation may have stopped with an exception
+
+        int[] code = program.code;
+        int pc = 0;
+        int b;
+        while (pc < code.length) {
+            switch (code[pc++]) {
+                case Program.PUSH:
+                    stack.push(code[pc++]);
+                    break;
+                case Program.LOAD:
+                    stack.push(values[code[pc++]]);
+                    break;
+                case Program.ADD:
+                    b = stack.pop();
+                    stack.push(stack.pop() + b);
+                    break;
+                case Program.SUB:
+                    b = stack.pop();
+                    stack.push(stack.pop() - b);
+                    break;
+                case Program.MUL:
+                    b = stack.pop();
+                    stack.push(stack.pop() * b);
+                    break;
+                case Program.DIV:
+                    b = stack.pop();
+                    stack.push(stack.pop() / b); // ArithmeticException on / 0, like Java
+                    break;
+                case Program.MOD:
+                    b = stack.pop();
+                    stack.push(stack.pop() % b);
+                    break;
+                case Program.NEG:
+                    stack.push(-stack.pop());
+                    break;
+                case Program.NOT:
+                    stack.push(stack.pop() == 0 ? 1 : 0);
+                    break;
+                case Program.LT:
+                    b = stack.pop();
+                    stack.push(stack.pop() < b ? 1 : 0);
+                    break;
+                case Program.LE:
+                    b = stack.pop();
+                    stack.push(stack.pop() <= b ? 1 : 0);
+                    break;
+                case Program.GT:
+                    b = stack.pop();
+                    stack.push(stack.pop() > b ? 1 : 0);
+                    break;
+                case Program.GE:
+                    b = stack.pop();
+                    stack.push(stack.pop() >= b ? 1 : 0);
+                    break;
+                case Program.EQ:
+                    b = stack.pop();
+                    stack.push(stack.pop() == b ? 1 : 0);
+                    break;
+                case Program.NE:
+                    b = stack.pop();
+                    stack.push(stack.pop() != b ? 1 : 0);
+                    break;
+                case Program.TO_BOOL:
+                    stack.push(stack.pop() != 0 ? 1 : 0);
+                    break;
+                case Program.JUMP_IF_FALSE_OR_POP:
+                    if (stack.peek() == 0) {
+                        pc = code[pc]; // false && ... → 0, the right operand is skipped
+                    } else {
+                        stack.pop();
+                        pc++;
+                    }
+                    break;
+                case Program.JUMP_IF_TRUE_OR_POP:
+                    if (stack.pop() != 0) {
+                        stack.push(1); // true || ... → 1
+                        pc = code[pc];
+                    } else {
+                        pc++;
+                    }
+                    break;
+                case Program.MIN:
+                    b = stack.pop();
+                    stack.push(Math.min(stack.pop(), b));
+                    break;
+                case Program.MAX:
+                    b = stack.pop();
+                    stack.push(Math.max(stack.pop(), b));
+                    break;
+                case Program.ABS:
+                    stack.push(Math.abs(stack.pop()));
+                    break;
+                default:
+                    throw new IllegalStateException("illegal opcode " + code[pc - 1] + " at " + (pc - 1));
+            }
+        }
+        return stack.pop();
+    }
+
+    // result != 0
+    public boolean test(Program program, int[] values) {
+        return evaluate(program, values) != 0;
+    }
+}
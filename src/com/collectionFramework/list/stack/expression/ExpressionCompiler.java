@@ -0,0 +1,316 @@
+package com.collectionFramework.list.stack.expression;
+
+import com.collectionFramework.list.primitiveList.IntCustomList;
+import com.collectionFramework.list.stack.ChunkedIntStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Compiles an infix expression to a Program with the shunting-yard algorithm (Dijkstra):
+ * operands go straight to the output, operators wait on an operator stack until an operator with
+ * lower precedence (or a closing parenthesis) arrives - the output is the expression in RPN order.
+ *
+ * Supported (int arithmetic, booleans are 0 / 1):
+ *   literals 42, true, false     variables   age, order.total
+ *   unary    -  +  !             binary      *  /  %   +  -   <  <=  >  >=   ==  !=   &&   ||
+ *   functions min(a, b)  max(a, b)  abs(a)       parentheses
+ *
+ * && and || short-circuit: when the operator is read, its left operand is already in the output, so a
+ * conditional jump is emitted right there; the jump target is filled in when the operator leaves the stack.
+ * So "x != 0 && 100 / x > 2" never divides by zero.
+ *
+ * Compiling allocates freely - it happens once per expression, evaluation is the hot path.
+ * Syntax errors throw IllegalArgumentException with the position.
+ * */
+
+final class ExpressionCompiler {
+
+    // markers on the operator stack
+    private static final int GROUP_PAREN = -1;
+    private static final int CALL_PAREN = -2;
+
+    private final String source;
+    private int position = 0;
+
+    private final IntCustomList code = new IntCustomList();
+    private final ChunkedIntStack operators = new ChunkedIntStack(64);
+    private final ChunkedIntStack jumps = new ChunkedIntStack(64); // positions of && / || jump targets to patch
+    private final ChunkedIntStack argumentCounts = new ChunkedIntStack(64);
+    private final List<String> variables = new ArrayList<>();
+    private int depth = 0; // operand stack depth at this point of the program
+    private int maxDepth = 0;
+
+    private ExpressionCompiler(String source) {
+        this.source = source;
+    }
+
+    static Program compile(String source) {
+        return new ExpressionCompiler(source).compile();
+    }
+
+    private Program compile() {
+        boolean expectOperand = true;
+        while (true) {
+            skipWhitespace();
+            if (position >= source.length()) {
+                break;
+            }
+            char c = source.charAt(position);
+
+            if (expectOperand) {
+                if (Character.isDigit(c)) {
+                    readNumber();
+                    expectOperand = false;
+                } else if (Character.isLetter(c) || c == '_') {
+                    String name = readIdentifier();
+                    int function = function(name);
+                    skipWhitespace();
+                    if (function >= 0 && peek() == '(') {
+                        position++;
+                        operators.push(function);
+                        operators.push(CALL_PAREN);
+                        argumentCounts.push(1);
+                    } else if (name.equals("true") || name.equals("false")) {
+                        emit(Program.PUSH, name.equals("true") ? 1 : 0);
+                        expectOperand = false;
+                    } else {
+                        int slot = variables.indexOf(name);
+                        if (slot < 0) {
+                            slot = variables.size();
+                            variables.add(name);
+                        }
+                        emit(Program.LOAD, slot);
+                        expectOperand = false;
+                    }
+                } else if (c == '(') {
+                    position++;
+                    operators.push(GROUP_PAREN);
+                } else if (c == '-') {
+                    position++;
+                    operators.push(Program.NEG); // prefix operators only wait for their operand, nothing to pop
+                } else if (c == '!') {
+                    position++;
+                    operators.push(Program.NOT);
+                } else if (c == '+') {
+                    position++; // unary plus does nothing
+                } else {
+                    throw error("operand expected");
+                }
+            } else {
+                if (c == ')') {
+                    position++;
+                    closeParenthesis();
+                } else if (c == ',') {
+                    position++;
+                    popUntilParenthesis();
+                    if (operators.isEmpty() || operators.peek() != CALL_PAREN) {
+                        throw error("',' outside of a function call");
+                    }
+                    argumentCounts.push(argumentCounts.pop() + 1);
+                    expectOperand = true;
+                } else {
+                    int operator = readBinaryOperator();
+                    while (!operators.isEmpty() && precedence(operators.peek()) >= precedence(operator)) { // all binary operators are left associative
+                        emitOperator(operators.pop());
+                    }
+                    if (operator == Program.JUMP_IF_FALSE_OR_POP || operator == Program.JUMP_IF_TRUE_OR_POP) {
+                        emit(operator, -1); // target patched later
+                        jumps.push(code.size() - 1);
+                    }
+                    operators.push(operator);
+                    expectOperand = true;
+                }
+            }
+        }
+        if (expectOperand) {
+            throw error("unexpected end of expression");
+        }
+        while (!operators.isEmpty()) {
+            int operator = operators.pop();
+            if (operator < 0) {
+                throw error("missing ')'");
+            }
+            emitOperator(operator);
+        }
+        return new Program(source, code.toArray(), variables, maxDepth);
+    }
+
+    private void closeParenthesis() {
+        popUntilParenthesis();
+        if (operators.isEmpty()) {
+            throw error("unexpected ')'");
+        }
+        if (operators.pop() == CALL_PAREN) {
+            int function = operators.pop();
+            int arguments = argumentCounts.pop();
+            int expected = (function == Program.ABS) ? 1 : 2;
+            if (arguments != expected) {
+                throw error("function expects " + expected + " argument(s), got " + arguments);
+            }
+            emitOperator(function);
+        }
+    }
+
+    private void popUntilParenthesis() {
+        while (!operators.isEmpty() && operators.peek() >= 0) {
+            emitOperator(operators.pop());
+        }
+    }
+
+    // Output
+
+    private void emit(int opcode, int operand) {
+        code.add(opcode);
+        code.add(operand);
+        if (opcode == Program.PUSH || opcode == Program.LOAD) {
+            depth++;
+            maxDepth = Math.max(maxDepth, depth);
+        } else { // conditional jump: on the fall-through path the left operand is popped
+            depth--;
+        }
+    }
+
+    private void emitOperator(int operator) {
+        if (operator == Program.JUMP_IF_FALSE_OR_POP || operator == Program.JUMP_IF_TRUE_OR_POP) {
+            code.add(Program.TO_BOOL); // right operand → 0 / 1
+            code.set(jumps.pop(), code.size()); // the jump lands behind it
+            return;
+        }
+        code.add(operator);
+        if (operator != Program.NEG && operator != Program.NOT && operator != Program.ABS) {
+            depth--; // binary: two operands in, one result out
+        }
+    }
+
+    // Precedence - higher binds tighter, parentheses markers are lowest
+
+    private static int precedence(int operator) {
+        switch (operator) {
+            case Program.NEG:
+            case Program.NOT:
+                return 7;
+            case Program.MUL:
+            case Program.DIV:
+            case Program.MOD:
+                return 6;
+            case Program.ADD:
+            case Program.SUB:
+                return 5;
+            case Program.LT:
+            case Program.LE:
+            case Program.GT:
+            case Program.GE:
+                return 4;
+            case Program.EQ:
+            case Program.NE:
+                return 3;
+            case Program.JUMP_IF_FALSE_OR_POP: // &&
+                return 2;
+            case Program.JUMP_IF_TRUE_OR_POP: // ||
+                return 1;
+            default: // parentheses and functions wait for ')'
+                return 0;
+        }
+    }
+
+    private static int function(String name) {
+        switch (name) {
+            case "min":
+                return Program.MIN;
+            case "max":
+                return Program.MAX;
+            case "abs":
+                return Program.ABS;
+            default:
+                return -1;
+        }
+    }
+
+    // Tokens
+
+    private char peek() {
+        return position < source.length() ? source.charAt(position) : '\0';
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void readNumber() {
+        int start = position;
+        while (position < source.length() && Character.isDigit(source.charAt(position))) {
+            position++;
+        }
+        try {
+            emit(Program.PUSH, Integer.parseInt(source, start, position, 10));
+        } catch (NumberFormatException e) {
+            position = start;
+            throw error("number out of int range");
+        }
+    }
+
+    private String readIdentifier() {
+        int start = position;
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.') {
+                break;
+            }
+            position++;
+        }
+        return source.substring(start, position);
+    }
+
+    private int readBinaryOperator() {
+        char c = source.charAt(position);
+        char next = position + 1 < source.length() ? source.charAt(position + 1) : '\0';
+        int operator;
+        int length = 1;
+        switch (c) {
+            case '+': operator = Program.ADD; break;
+            case '-': operator = Program.SUB; break;
+            case '*': operator = Program.MUL; break;
+            case '/': operator = Program.DIV; break;
+            case '%': operator = Program.MOD; break;
+            case '<':
+                operator = (next == '=') ? Program.LE : Program.LT;
+                length = (next == '=') ? 2 : 1;
+                break;
+            case '>':
+                operator = (next == '=') ? Program.GE : Program.GT;
+                length = (next == '=') ? 2 : 1;
+                break;
+            case '=':
+                if (next != '=') throw error("'==' expected");
+                operator = Program.EQ;
+                length = 2;
+                break;
+            case '!':
+                if (next != '=') throw error("'!=' expected");
+                operator = Program.NE;
+                length = 2;
+                break;
+            case '&':
+                if (next != '&') throw error("'&&' expected");
+                operator = Program.JUMP_IF_FALSE_OR_POP;
+                length = 2;
+                break;
+            case '|':
+                if (next != '|') throw error("'||' expected");
+                operator = Program.JUMP_IF_TRUE_OR_POP;
+                length = 2;
+                break;
+            default:
+                throw error("operator expected");
+        }
+        position += length;
+        return operator;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position + " in \"" + source + "\"");
+    }
+}
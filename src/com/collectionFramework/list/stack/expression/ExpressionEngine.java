@@ -0,0 +1,125 @@
+package com.collectionFramework.list.stack.expression;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Expression engine - compile once, evaluate many times.
+ *
+ *   compile    infix text → Program (shunting-yard, see ExpressionCompiler)    once per distinct expression
+ *   cache      expression text → Program                                       ConcurrentHashMap, shared by all threads
+ *   evaluate   Program + int[] values → int (Evaluator)                        one reusable operand stack per thread
+ *
+ * Typical use: rules stored as text (configuration, database) which are checked for millions of records.
+ * Re-parsing the text for every record costs tokens, strings and nodes each time; here the steady state
+ * is a map lookup plus a loop over an int[] - no allocation per evaluation.
+ *
+ * The cache is bounded: once it holds maxCachedPrograms entries, new expressions are still compiled, but not
+ * cached - so generated one-off expressions can not grow it without limit. Hot paths should keep the Program
+ * returned by compile() and call evaluator().evaluate(program, values), which also skips the lookup.
+ * */
+
+public class ExpressionEngine {
+
+    private static final int DEFAULT_MAX_CACHED_PROGRAMS = 10_000;
+
+    private final Map<String, Program> cache = new ConcurrentHashMap<>();
+    private final int maxCachedPrograms;
+    private final ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(Evaluator::new);
+
+    public ExpressionEngine() {
+        this(DEFAULT_MAX_CACHED_PROGRAMS);
+    }
+
+    public ExpressionEngine(int maxCachedPrograms) {
+        if (maxCachedPrograms < 0) {
+            throw new IllegalArgumentException("illegal cache size: " + maxCachedPrograms);
+        }
+        this.maxCachedPrograms = maxCachedPrograms;
+    }
+
+    // returns the cached Program, compiles (and caches) it on the first call
+    public Program compile(String expression) {
+        Program program = cache.get(expression);
+        if (program != null) {
+            return program;
+        }
+        program = ExpressionCompiler.compile(expression);
+        if (cache.size() < maxCachedPrograms) {
+            Program existing = cache.putIfAbsent(expression, program); // another thread may have been faster
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return program;
+    }
+
+    // compile (cached) + evaluate; values are in the order of compile(expression).variables()
+    public int evaluate(String expression, int[] values) {
+        return evaluators.get().evaluate(compile(expression), values);
+    }
+
+    public boolean test(String expression, int[] values) {
+        return evaluate(expression, values) != 0;
+    }
+
+    // the Evaluator of the calling thread
+    public Evaluator evaluator() {
+        return evaluators.get();
+    }
+
+    public int cachedPrograms() {
+        return cache.size();
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        ExpressionEngine engine = new ExpressionEngine();
+
+        System.out.println("=== Test: arithmetic and precedence ===");
+        System.out.println(engine.evaluate("1 + 2 * 3", new int[0]));          // Expect: 7
+        System.out.println(engine.evaluate("(1 + 2) * 3", new int[0]));        // Expect: 9
+        System.out.println(engine.evaluate("10 - 4 - 3", new int[0]));         // Expect: 3  (left associative)
+        System.out.println(engine.evaluate("-2 * -3 + 17 % 5", new int[0]));   // Expect: 8
+        System.out.println(engine.evaluate("max(3, min(10, 7)) + abs(-5)", new int[0])); // Expect: 12
+
+        System.out.println("\n=== Test: compiled program ===");
+        Program program = engine.compile("a + 2 * b");
+        System.out.println(program.disassemble()); // Expect: LOAD a, PUSH 2, LOAD b, MUL, ADD
+        System.out.println(engine.evaluate("a + 2 * b", new int[]{1, 4})); // Expect: 9
+
+        System.out.println("\n=== Test: rule with variables ===");
+        String rule = "age >= 18 && (income - debt) * 100 / income > 30 || vip";
+        Program eligible = engine.compile(rule);
+        System.out.println(Arrays.toString(eligible.variables())); // Expect: [age, income, debt, vip]
+        Evaluator evaluator = engine.evaluator();
+        System.out.println(evaluator.test(eligible, new int[]{25, 5000, 1000, 0})); // Expect: true  (80% left)
+        System.out.println(evaluator.test(eligible, new int[]{25, 5000, 4000, 0})); // Expect: false (20% left)
+        System.out.println(evaluator.test(eligible, new int[]{16, 5000, 0, 1}));    // Expect: true  (vip)
+
+        System.out.println("\n=== Test: short-circuit ===");
+        System.out.println(engine.evaluate("x != 0 && 100 / x > 2", new int[]{0}));  // Expect: 0 - no division by zero
+        System.out.println(engine.evaluate("x == 0 || 100 / x > 2", new int[]{0}));  // Expect: 1
+        System.out.println(engine.evaluate("x != 0 && 100 / x > 2", new int[]{20})); // Expect: 1
+
+        System.out.println("\n=== Test: cache ===");
+        System.out.println(engine.compile(rule) == eligible); // Expect: true - compiled only once
+        System.out.println("cached programs: " + engine.cachedPrograms()); // Expect: 9
+
+        System.out.println("\n=== Test: syntax errors ===");
+        String[] invalid = {"1 +", "(1 + 2", "1 + 2)", "min(1)", "a = 1", "2 3"};
+        for (String expression : invalid) {
+            try {
+                engine.compile(expression);
+                System.out.println("no error for " + expression);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+}
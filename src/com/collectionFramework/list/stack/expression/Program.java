@@ -0,0 +1,105 @@
+package com.collectionFramework.list.stack.expression;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * A compiled expression - a flat RPN ("int-code") program, produced once by ExpressionCompiler.
+ *
+ *   "a + 2 * b"   →   LOAD 0, PUSH 2, LOAD 1, MUL, ADD
+ *
+ * code[] holds opcodes and their operands one after another (PUSH and LOAD take one operand, the jumps take
+ * the target position). Variables are numbered in the order they first appear in the expression -
+ * slot(name) returns the index to use in the int[] passed to Evaluator.evaluate().
+ *
+ * A Program never changes, so one instance can be shared by all threads (and cached).
+ * */
+
+public final class Program {
+
+    // Opcodes
+    static final int PUSH = 0; // PUSH value
+    static final int LOAD = 1; // LOAD variableIndex
+    static final int ADD = 2;
+    static final int SUB = 3;
+    static final int MUL = 4;
+    static final int DIV = 5;
+    static final int MOD = 6;
+    static final int NEG = 7;
+    static final int NOT = 8;
+    static final int LT = 9;
+    static final int LE = 10;
+    static final int GT = 11;
+    static final int GE = 12;
+    static final int EQ = 13;
+    static final int NE = 14;
+    static final int TO_BOOL = 15; // x != 0 ? 1 : 0
+    static final int JUMP_IF_FALSE_OR_POP = 16; // && - if top == 0 jump (result stays 0), else pop and go on
+    static final int JUMP_IF_TRUE_OR_POP = 17; // || - if top != 0 replace it by 1 and jump, else pop and go on
+    static final int MIN = 18;
+    static final int MAX = 19;
+    static final int ABS = 20;
+
+    private static final String[] NAMES = {"PUSH", "LOAD", "ADD", "SUB", "MUL", "DIV", "MOD", "NEG", "NOT",
+            "LT", "LE", "GT", "GE", "EQ", "NE", "TO_BOOL", "JUMP_IF_FALSE_OR_POP", "JUMP_IF_TRUE_OR_POP", "MIN", "MAX", "ABS"};
+
+    final int[] code;
+    final int maxStackDepth; // computed by the compiler, the evaluator sizes its stack once
+    private final String source;
+    private final String[] variables;
+
+    Program(String source, int[] code, List<String> variables, int maxStackDepth) {
+        this.source = source;
+        this.code = code;
+        this.variables = variables.toArray(new String[0]);
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    static boolean hasOperand(int opcode) {
+        return opcode == PUSH || opcode == LOAD || opcode == JUMP_IF_FALSE_OR_POP || opcode == JUMP_IF_TRUE_OR_POP;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public int variableCount() {
+        return variables.length;
+    }
+
+    // index of a variable in the values array, -1 if the expression does not use it
+    public int slot(String variable) {
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(variable)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public String[] variables() {
+        return variables.clone();
+    }
+
+    public String disassemble() {
+        StringBuilder builder = new StringBuilder();
+        for (int pc = 0; pc < code.length; pc++) {
+            if (pc > 0) {
+                builder.append(", ");
+            }
+            int opcode = code[pc];
+            builder.append(NAMES[opcode]);
+            if (opcode == LOAD) {
+                builder.append(' ').append(variables[code[++pc]]);
+            } else if (hasOperand(opcode)) {
+                builder.append(' ').append(code[++pc]);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return source + " → [" + disassemble() + "], variables " + Arrays.toString(variables);
+    }
+}
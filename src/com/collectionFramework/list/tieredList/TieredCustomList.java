@@ -0,0 +1,378 @@
+package com.collectionFramework.list.tieredList;
+
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/*
+ * Tiered Vector - a list made of blocks, every block is a small circular array (ring buffer).
+ *
+ *   blocks:  [ block 0 ][ block 1 ][ block 2 ] ... [ last block ]
+ *              full       full       full            partly full
+ *
+ * All blocks have the same size B (a power of two) and every block except the last one is always full.
+ * That's why get(index) is still O(1): block = index / B, position = index % B (shift and mask).
+ *
+ * Insert/remove in the middle:
+ *   CustomArrayList shifts the whole tail - O(n).
+ *   Here only ONE block is shifted - O(B), and every following block just passes one element
+ *   to its neighbour. Because the blocks are circular, that is O(1) per block (move the head) - O(n / B).
+ *   With B ≈ √n both parts are O(√n).
+ *
+ * B is re-chosen (and the list rebuilt) when the number of blocks gets too far away from B,
+ * so B stays close to √n while the list grows and shrinks.
+ * */
+
+public class TieredCustomList<E> implements CustomList<E> {
+
+    // Fields
+    private Object[][] blocks; // ring buffers, only the first blockCount() are in use
+    private int[] heads; // index of the first element inside each ring buffer
+    private int shift; // B = 1 << shift
+    private int blockSize;
+    private int mask;
+    private int size = 0;
+    private static final int MIN_SHIFT = 4; // smallest block: 16 elements
+    private static final int INITIAL_BLOCKS = 4;
+
+    // Constructors
+    public TieredCustomList() {
+        init(MIN_SHIFT);
+    }
+
+    private void init(int shift) {
+        this.shift = shift;
+        this.blockSize = 1 << shift;
+        this.mask = blockSize - 1;
+        this.blocks = new Object[INITIAL_BLOCKS][];
+        this.heads = new int[INITIAL_BLOCKS];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int blockCount() {
+        return (size + mask) >>> shift;
+    }
+
+    // number of elements inside block k (all blocks before the last one are full)
+    private int countOf(int k) {
+        return Math.min(blockSize, size - (k << shift));
+    }
+
+    private void checkRangeForAdd(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Illegal index: " + index);
+        }
+    }
+
+    //    For get/remove/set → valid range [0, size-1]
+    private void checkRange(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("illegal index: " + index);
+        }
+    }
+
+    // Block helpers - every one of them works on a single ring buffer
+
+    private int slot(int k, int offset) {
+        return (heads[k] + offset) & mask;
+    }
+
+    private void ensureBlock(int k) {
+        if (k >= blocks.length) {
+            int newLength = blocks.length + (blocks.length / 2) + 1; // same 1.5x growth as CustomArrayList
+            blocks = Arrays.copyOf(blocks, newLength);
+            heads = Arrays.copyOf(heads, newLength);
+        }
+        if (blocks[k] == null) {
+            blocks[k] = new Object[blockSize];
+            heads[k] = 0;
+        }
+    }
+
+    // O(1) - moves the head one step back
+    private void pushFront(int k, Object element) {
+        heads[k] = (heads[k] - 1) & mask;
+        blocks[k][heads[k]] = element;
+    }
+
+    // O(1) - moves the head one step forward
+    private Object popFront(int k) {
+        Object[] block = blocks[k];
+        Object element = block[heads[k]];
+        block[heads[k]] = null;
+        heads[k] = (heads[k] + 1) & mask;
+        return element;
+    }
+
+    private Object popBack(int k, int count) {
+        int last = slot(k, count - 1);
+        Object element = blocks[k][last];
+        blocks[k][last] = null;
+        return element;
+    }
+
+    // O(B) - inserts into a block which has a free slot, shifting the shorter side
+    private void insertInBlock(int k, int count, int offset, Object element) {
+        Object[] block = blocks[k];
+        if (offset < count - offset) { // shift the front part one step to the left
+            heads[k] = (heads[k] - 1) & mask;
+            for (int i = 0; i < offset; i++) {
+                block[slot(k, i)] = block[slot(k, i + 1)];
+            }
+        } else { // shift the back part one step to the right
+            for (int i = count; i > offset; i--) {
+                block[slot(k, i)] = block[slot(k, i - 1)];
+            }
+        }
+        block[slot(k, offset)] = element;
+    }
+
+    // O(B) - removes from a block, closing the gap from the shorter side
+    private Object removeInBlock(int k, int count, int offset) {
+        Object[] block = blocks[k];
+        Object element = block[slot(k, offset)];
+        if (offset < count - 1 - offset) { // shift the front part one step to the right
+            for (int i = offset; i > 0; i--) {
+                block[slot(k, i)] = block[slot(k, i - 1)];
+            }
+            block[heads[k]] = null;
+            heads[k] = (heads[k] + 1) & mask;
+        } else { // shift the back part one step to the left
+            for (int i = offset; i < count - 1; i++) {
+                block[slot(k, i)] = block[slot(k, i + 1)];
+            }
+            block[slot(k, count - 1)] = null;
+        }
+        return element;
+    }
+
+    @Override
+    public boolean add(E element) {
+        return add(size, element);
+    }
+
+    @Override
+    public boolean add(int index, E element) {
+        checkRangeForAdd(index);
+        if (size == (blockCount() << shift)) { // all blocks are full - one more is needed
+            ensureBlock(blockCount());
+        }
+
+        int target = index >>> shift;
+        int lastBlock = size >>> shift; // the block which receives the new element in the end
+
+        // every full block after the target passes its last element to the front of the next block
+        for (int k = lastBlock; k > target; k--) {
+            Object moved = popBack(k - 1, blockSize);
+            pushFront(k, moved);
+        }
+
+        int count = (target == lastBlock) ? countOf(target) : blockSize - 1;
+        insertInBlock(target, count, index & mask, element);
+        size++;
+        rebalanceIfNeeded();
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkRange(index);
+        int target = index >>> shift;
+        int lastBlock = (size - 1) >>> shift;
+
+        Object element = removeInBlock(target, countOf(target), index & mask);
+
+        // every following block passes its first element to the back of the previous block
+        for (int k = target + 1; k <= lastBlock; k++) {
+            Object moved = popFront(k);
+            blocks[k - 1][slot(k - 1, blockSize - 1)] = moved;
+        }
+        size--; // an emptied last block is kept for the next add(), rebuild() drops it when B shrinks
+        rebalanceIfNeeded();
+        return (E) element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkRange(index);
+        int k = index >>> shift;
+        return (E) blocks[k][slot(k, index & mask)];
+    }
+
+    @Override
+    public int indexOf(E element) {
+        int index = 0;
+        for (int k = 0, count = blockCount(); k < count; k++) {
+            Object[] block = blocks[k];
+            for (int i = 0, n = countOf(k); i < n; i++, index++) {
+                Object value = block[slot(k, i)];
+                if (element == null ? value == null : element.equals(value)) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkRange(index);
+        int k = index >>> shift;
+        int position = slot(k, index & mask);
+        E oldValue = (E) blocks[k][position];
+        blocks[k][position] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        init(MIN_SHIFT);
+        this.size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        copyTo(result);
+        return result;
+    }
+
+    // copies block by block - the first part of a ring buffer, then the wrapped part
+    private void copyTo(Object[] target) {
+        int index = 0;
+        for (int k = 0, count = blockCount(); k < count; k++) {
+            int n = countOf(k);
+            int firstPart = Math.min(n, blockSize - heads[k]);
+            System.arraycopy(blocks[k], heads[k], target, index, firstPart);
+            System.arraycopy(blocks[k], 0, target, index + firstPart, n - firstPart);
+            index += n;
+        }
+    }
+
+    /*
+     * Keeps B close to √n:
+     *   too many blocks (more than 2 * B)  → double B
+     *   too few blocks (less than B / 8)   → halve B
+     * Rebuilding is O(n) but happens only after the size has changed by a factor of ~4, so it is amortized O(1).
+     * */
+    private void rebalanceIfNeeded() {
+        int count = blockCount();
+        if (count > 2 * blockSize) {
+            rebuild(shift + 1);
+        } else if (shift > MIN_SHIFT && count < blockSize / 8) {
+            rebuild(shift - 1);
+        }
+    }
+
+    private void rebuild(int newShift) {
+        Object[] elements = toArray();
+        init(newShift);
+        int newBlockCount = (elements.length + mask) >>> shift;
+        if (newBlockCount > blocks.length) {
+            blocks = new Object[newBlockCount][];
+            heads = new int[newBlockCount];
+        }
+        for (int k = 0; k < newBlockCount; k++) {
+            int from = k << shift;
+            blocks[k] = new Object[blockSize];
+            System.arraycopy(elements, from, blocks[k], 0, Math.min(blockSize, elements.length - from));
+        }
+    }
+
+    // iterates block by block, so the JVM walks over small contiguous arrays
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int current = 0;
+
+            @Override
+            public boolean hasNext() {
+                return current < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (current >= size)
+                    throw new NoSuchElementException();
+                int k = current >>> shift;
+                E value = (E) blocks[k][slot(k, current & mask)];
+                current++;
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // TESTING
+    public static void main(String[] args) {
+        TieredCustomList<String> list = new TieredCustomList<>();
+
+        System.out.println("=== Test: Add Elements ===");
+        list.add("A");
+        list.add("B");
+        list.add("C");
+        list.add(null);
+        list.add("D");
+        System.out.println(list); // Expect: [A, B, C, null, D]
+
+        System.out.println("\n=== Test: Add at Index ===");
+        list.add(2, "X");
+        System.out.println(list); // Expect: [A, B, X, C, null, D]
+
+        System.out.println("\n=== Test: Remove ===");
+        list.remove(0);
+        list.remove("X");
+        list.remove(null);
+        System.out.println(list); // Expect: [B, C, D]
+
+        System.out.println("\n=== Test: Middle Inserts Across Many Blocks ===");
+        TieredCustomList<Integer> numbers = new TieredCustomList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int index = random.nextInt(numbers.size() + 1);
+            numbers.add(index, i);
+            expected.add(index, i);
+        }
+        for (int i = 0; i < 90_000; i++) {
+            int index = random.nextInt(numbers.size());
+            numbers.remove(index);
+            expected.remove(index);
+        }
+        System.out.println("Same as java.util.ArrayList: " + Arrays.equals(numbers.toArray(), expected.toArray())); // Expect: true
+    }
+}
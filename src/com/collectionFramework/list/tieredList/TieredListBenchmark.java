@@ -0,0 +1,73 @@
+package com.collectionFramework.list.tieredList;
+
+import com.collectionFramework.list.arrayList.CustomArrayList;
+import com.collectionFramework.list.linkedList.CustomLinkedList;
+import com.collectionFramework.list.listInterface.CustomList;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/*
+ * Simple benchmark: positional insert/remove/get in the middle of big lists.
+ *
+ *   CustomArrayList   - get O(1),  middle insert/remove O(n)   (System.arraycopy of the tail)
+ *   CustomLinkedList  - get O(n),  middle insert/remove O(n)   (node(index) walk)
+ *   TieredCustomList  - get O(1),  middle insert/remove O(√n)
+ *
+ * Every measurement is repeated a few times and the first rounds are only warm-up for the JIT.
+ * */
+
+public class TieredListBenchmark {
+
+    private static final int OPERATIONS = 2_000;
+    private static final int ROUNDS = 5;
+    private static final int WARM_UP_ROUNDS = 2;
+
+    public static void main(String[] args) {
+        int[] sizes = {10_000, 100_000, 500_000};
+
+        for (int size : sizes) {
+            System.out.println("=== size: " + size + ", operations: " + OPERATIONS + " ===");
+            run("CustomArrayList ", CustomArrayList::new, size);
+            run("CustomLinkedList", CustomLinkedList::new, size);
+            run("TieredCustomList", TieredCustomList::new, size);
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, Supplier<CustomList<Integer>> factory, int size) {
+        CustomList<Integer> list = factory.get();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        long insertRemove = Long.MAX_VALUE;
+        long get = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS + ROUNDS; round++) {
+            Random random = new Random(round); // same indexes for every implementation
+
+            long start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                int index = random.nextInt(list.size());
+                list.add(index, i);
+                list.remove(random.nextInt(list.size()));
+            }
+            long insertRemoveTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                checksum += list.get(random.nextInt(list.size()));
+            }
+            long getTime = System.nanoTime() - start;
+
+            if (round >= WARM_UP_ROUNDS) { // keep the best round
+                insertRemove = Math.min(insertRemove, insertRemoveTime);
+                get = Math.min(get, getTime);
+            }
+        }
+
+        System.out.printf("%s  insert+remove: %8.1f ns/op   get: %8.1f ns/op   (checksum %d)%n",
+                name, (double) insertRemove / OPERATIONS, (double) get / OPERATIONS, checksum);
+    }
+}